@@ -1,6 +1,6 @@
 package datastructures.concrete;
 
-import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.ProbingHashDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IDisjointSet;
 
@@ -13,6 +13,8 @@ public class ArrayDisjointSet<T> implements IDisjointSet<T> {
     // directly within our private tests.
     private int[] pointers;
     private IDictionary<T, Integer> map;
+    // Null unless StructureStats.ENABLED.
+    private final StructureStats stats = StructureStats.ENABLED ? new StructureStats() : null;
 
     // However, feel free to add more methods and private helper methods.
     // You will probably need to add one or two more fields in order to
@@ -20,7 +22,7 @@ public class ArrayDisjointSet<T> implements IDisjointSet<T> {
 
     public ArrayDisjointSet() {
         this.pointers = new int[8];
-        map = new ChainedHashDictionary<>();
+        map = new ProbingHashDictionary<>();
     }
 
     @Override
@@ -45,8 +47,13 @@ public class ArrayDisjointSet<T> implements IDisjointSet<T> {
         }
         int i = map.get(item);
         int start = i;
+        int steps = 0;
         while (pointers[i] >= 0) {
             i = pointers[i];
+            steps++;
+        }
+        if (StructureStats.ENABLED) {
+            stats.recordFind(steps);
         }
         while (pointers[start] >= 0) {
             int temp = pointers[start];
@@ -73,4 +80,13 @@ public class ArrayDisjointSet<T> implements IDisjointSet<T> {
             }
         }
     }
+
+    /**
+     * Returns the stats collected for this disjoint set, or null if stats are disabled.
+     *
+     * @see StructureStats
+     */
+    public StructureStats getStats() {
+        return stats;
+    }
 }
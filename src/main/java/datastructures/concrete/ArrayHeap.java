@@ -1,14 +1,19 @@
 package datastructures.concrete;
 
+import datastructures.interfaces.IList;
 import datastructures.interfaces.IPriorityQueue;
 import misc.exceptions.EmptyContainerException;
 
+import java.util.Comparator;
+
 /**
  * @see IPriorityQueue for details on what each method must do.
  */
 public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
     // See spec: you must implement a implement a 4-heap.
-    private static final int NUM_CHILDREN = 4;
+    // Other arities (2, 8, 16, ...) can be requested through the constructor;
+    // see misc.benchmarks.HeapArityBenchmark for how they compare.
+    private static final int DEFAULT_NUM_CHILDREN = 4;
 
     // You MUST use this field to store the contents of your heap.
     // You may NOT rename this field: we will be inspecting it within
@@ -16,15 +21,71 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
     private T[] heap;
     private int size;
     private int sizeOfArray;
+    private final int numChildren;
+    // Null means the natural ordering (compareTo) is used.
+    private final Comparator<? super T> comparator;
+    // Null unless StructureStats.ENABLED.
+    private final StructureStats stats;
 
     // Feel free to add more fields and constants.
 
     public ArrayHeap() {
+        this(DEFAULT_NUM_CHILDREN, null);
+    }
+
+    /**
+     * Creates an empty heap where every node has up to 'numChildren' children.
+     *
+     * @throws IllegalArgumentException  if numChildren < 2
+     */
+    public ArrayHeap(int numChildren) {
+        this(numChildren, null);
+    }
+
+    /**
+     * Creates an empty heap where every node has up to 'numChildren' children,
+     * ordered by the given comparator instead of by compareTo. A null comparator
+     * means natural ordering.
+     *
+     * @throws IllegalArgumentException  if numChildren < 2
+     */
+    public ArrayHeap(int numChildren, Comparator<? super T> comparator) {
+        if (numChildren < 2) {
+            throw new IllegalArgumentException();
+        }
+        this.numChildren = numChildren;
+        this.comparator = comparator;
+        this.stats = StructureStats.ENABLED ? new StructureStats() : null;
         this.size = 0;
         this.sizeOfArray = 20;
         this.heap = makeArrayOfT(sizeOfArray);
     }
 
+    /**
+     * Builds a heap containing every item in the given list in O(n) time,
+     * using bottom-up (Floyd) heap construction rather than n separate inserts.
+     *
+     * @throws IllegalArgumentException  if items is null or contains null
+     */
+    public ArrayHeap(IList<T> items) {
+        this(items, DEFAULT_NUM_CHILDREN, null);
+    }
+
+    /**
+     * Like ArrayHeap(IList), but with the given arity and comparator.
+     *
+     * @throws IllegalArgumentException  if items is null or contains null
+     * @throws IllegalArgumentException  if numChildren < 2
+     */
+    public ArrayHeap(IList<T> items, int numChildren, Comparator<? super T> comparator) {
+        this(numChildren, comparator);
+        if (items == null) {
+            throw new IllegalArgumentException();
+        }
+        ensureCapacity(items.size());
+        this.insertAll(items);
+    }
+
     /**
      * This method will return a new, empty array of the given size
      * that can contain elements of type T.
@@ -43,51 +104,110 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
 
     @Override
     public T removeMin() {
-        T out;
-        if (size != 0) {
-            out = heap[0];
-            heap[0] = heap[size - 1];
-            int min = minChild(heap, 0);
-            for (int i = 0; i < size; i = min) {
-                if (numberOfChildren(i) != 0) {
-                    min = minChild(heap, i);
-                    if (heap[min].compareTo(heap[i]) < 0) {
-                        T temp = heap[min];
-                        heap[min] = heap[i];
-                        heap[i] = temp;
-                    }
-                } else {
-                    break;
-                }
-            }
-            size--;
-        } else {
+        if (size == 0) {
             throw new EmptyContainerException();
         }
+        T out = heap[0];
+        size--;
+        heap[0] = heap[size];
+        heap[size] = null;
+        if (size > 0) {
+            percolateDown(0);
+        }
         return out;
     }
 
-    //returns the index of the smallest children of given node
-    private int minChild(T[] heapIn, int index) {
-        int minIndex = index * NUM_CHILDREN + 1;
-        int numOfChildren = numberOfChildren(index);
-        for (int i = 1; i <= numOfChildren; i++) {
-            if (heapIn[index * NUM_CHILDREN + i].compareTo(heapIn[minIndex]) < 0) {
-                minIndex = index * NUM_CHILDREN + i;
+    @Override
+    public T replaceMin(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        T out = heap[0];
+        heap[0] = item;
+        percolateDown(0);
+        return out;
+    }
+
+    @Override
+    public T pushPop(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        if (size == 0 || compare(item, heap[0]) <= 0) {
+            return item;
+        }
+        return replaceMin(item);
+    }
+
+    private int compare(T a, T b) {
+        return comparator == null ? a.compareTo(b) : comparator.compare(a, b);
+    }
+
+    // Moves the item at the given index down until none of its children is smaller.
+    // The item is held aside while smaller children are shifted up into the hole,
+    // and is written back once, at its final position.
+    private void percolateDown(int index) {
+        T item = heap[index];
+        int i = index;
+        while (true) {
+            int min = minChild(heap, i);
+            if (min < 0 || compare(heap[min], item) >= 0) {
+                break;
             }
+            heap[i] = heap[min];
+            i = min;
+        }
+        heap[i] = item;
+        if (StructureStats.ENABLED) {
+            stats.recordSift(levelsBetween(index, i));
         }
-        return minIndex;
     }
 
-    //return the number of children of given node.
-    private int numberOfChildren(int index) {
-        int count = 0;
-        for (int i = 1; i <= NUM_CHILDREN; i++) {
-            if (index * NUM_CHILDREN + i < size) {
-                count = i;
+    // Moves the item at the given index up until its parent is no larger.
+    private void percolateUp(int index) {
+        T item = heap[index];
+        int i = index;
+        while (i > 0) {
+            int indexOfParent = (i - 1) / numChildren;
+            if (compare(heap[indexOfParent], item) <= 0) {
+                break;
             }
+            heap[i] = heap[indexOfParent];
+            i = indexOfParent;
+        }
+        heap[i] = item;
+        if (StructureStats.ENABLED) {
+            stats.recordSift(levelsBetween(i, index));
+        }
+    }
+
+    // Returns how many levels 'descendant' lies below 'ancestor'.
+    private int levelsBetween(int ancestor, int descendant) {
+        int levels = 0;
+        while (descendant > ancestor) {
+            descendant = (descendant - 1) / numChildren;
+            levels++;
         }
-        return count;
+        return levels;
+    }
+
+    //returns the index of the smallest children of given node, or -1 if it is a leaf
+    private int minChild(T[] heapIn, int index) {
+        int firstChild = index * numChildren + 1;
+        if (firstChild >= size) {
+            return -1;
+        }
+        int lastChild = Math.min(firstChild + numChildren, size);
+        int minIndex = firstChild;
+        for (int i = firstChild + 1; i < lastChild; i++) {
+            if (compare(heapIn[i], heapIn[minIndex]) < 0) {
+                minIndex = i;
+            }
+        }
+        return minIndex;
     }
 
     @Override
@@ -103,23 +223,53 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
         if (item == null) {
             throw new IllegalArgumentException();
         }
-        if (size == sizeOfArray) {
-            T[] temp = this.heap;
-            this.heap = makeArrayOfT(this.sizeOfArray * 2);
-            this.sizeOfArray *= 2;
-            for (int i = 0; i < temp.length; i++) {
-                this.heap[i] = temp[i];
-            }
-        }
+        ensureCapacity(size + 1);
         this.heap[size] = item;
         size++;
-        for (int i = size - 1; i > 0; i = (i - 1) / NUM_CHILDREN) {
-            int indexOfParent = (i - 1)/NUM_CHILDREN;
-            if (heap[indexOfParent].compareTo(heap[i]) > 0) {
-                T temp = this.heap[indexOfParent];
-                heap[indexOfParent] = heap[i];
-                heap[i] = temp;
+        percolateUp(size - 1);
+    }
+
+    /**
+     * Appends all the items and then either sifts each new one up, or, when the
+     * batch is at least as large as what is already in the heap, rebuilds the
+     * whole heap bottom-up in linear time.
+     */
+    @Override
+    public void insertAll(Iterable<T> items) {
+        if (items == null) {
+            throw new IllegalArgumentException();
+        }
+        int oldSize = size;
+        for (T item : items) {
+            if (item == null) {
+                // Drop the partially appended batch so the heap stays valid.
+                for (int i = oldSize; i < size; i++) {
+                    heap[i] = null;
+                }
+                size = oldSize;
+                throw new IllegalArgumentException();
             }
+            ensureCapacity(size + 1);
+            heap[size] = item;
+            size++;
+        }
+        if (size - oldSize >= oldSize) {
+            for (int i = (size - 2) / numChildren; i >= 0; i--) {
+                percolateDown(i);
+            }
+        } else {
+            for (int i = oldSize; i < size; i++) {
+                percolateUp(i);
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > sizeOfArray) {
+            T[] temp = this.heap;
+            this.sizeOfArray = Math.max(capacity, this.sizeOfArray * 2);
+            this.heap = makeArrayOfT(this.sizeOfArray);
+            System.arraycopy(temp, 0, this.heap, 0, size);
         }
     }
 
@@ -127,4 +277,13 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
     public int size() {
         return this.size;
     }
+
+    /**
+     * Returns the stats collected for this heap, or null if stats are disabled.
+     *
+     * @see StructureStats
+     */
+    public StructureStats getStats() {
+        return this.stats;
+    }
 }
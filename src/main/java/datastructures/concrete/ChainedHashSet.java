@@ -1,11 +1,14 @@
 package datastructures.concrete;
 
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.HashMixer;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.ISet;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
  * @see ISet for more details on what each method is supposed to do.
@@ -19,6 +22,25 @@ public class ChainedHashSet<T> implements ISet<T> {
         this.map = new ChainedHashDictionary<>();
     }
 
+    /**
+     * Creates a set presized to hold at least the given number of items without
+     * resizing.
+     *
+     * @throws IllegalArgumentException  if expectedSize is negative
+     */
+    public ChainedHashSet(int expectedSize) {
+        this.map = new ChainedHashDictionary<>(expectedSize);
+    }
+
+    /**
+     * Creates a set whose underlying dictionary mixes hash codes with 'mixer'.
+     *
+     * @throws IllegalArgumentException  if mixer is null
+     */
+    public ChainedHashSet(HashMixer mixer) {
+        this.map = new ChainedHashDictionary<>(false, mixer);
+    }
+
     @Override
     public void add(T item) {
         if (!contains(item)) {
@@ -39,16 +61,89 @@ public class ChainedHashSet<T> implements ISet<T> {
         return map.containsKey(item);
     }
 
+    /**
+     * Grows the table up front so that adding every item of 'other' resizes at most once.
+     */
+    @Override
+    public void addAll(ISet<T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException();
+        }
+        // The result holds at least the larger of the two sets, and at most twice
+        // that, so growing for the larger one never over-allocates when they overlap.
+        this.dictionary().growFor(Math.max(this.size(), other.size()));
+        ISet.super.addAll(other);
+    }
+
     @Override
     public int size() {
         return this.map.size();
     }
 
+    /**
+     * Returns the stats collected for the underlying dictionary, or null if stats
+     * are disabled.
+     *
+     * @see StructureStats
+     */
+    public StructureStats getStats() {
+        return this.dictionary().getStats();
+    }
+
+    /**
+     * @see ChainedHashDictionary#chainLengthHistogram()
+     */
+    public int[] chainLengthHistogram() {
+        return this.dictionary().chainLengthHistogram();
+    }
+
+    private ChainedHashDictionary<T, Boolean> dictionary() {
+        return (ChainedHashDictionary<T, Boolean>) this.map;
+    }
+
     @Override
     public Iterator<T> iterator() {
         return new SetIterator<>(this.map.iterator());
     }
 
+    /**
+     * Splits by bucket range, like the underlying ChainedHashDictionary.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new KeySpliterator<>(this.map.spliterator());
+    }
+
+    private static class KeySpliterator<T> implements Spliterator<T> {
+        private final Spliterator<KVPair<T, Boolean>> pairs;
+
+        public KeySpliterator(Spliterator<KVPair<T, Boolean>> pairs) {
+            this.pairs = pairs;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            return this.pairs.tryAdvance(pair -> action.accept(pair.getKey()));
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<KVPair<T, Boolean>> prefix = this.pairs.trySplit();
+            return prefix == null ? null : new KeySpliterator<>(prefix);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.pairs.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            // A set may hold null.
+            return this.pairs.characteristics() & ~Spliterator.NONNULL;
+        }
+    }
+
     private static class SetIterator<T> implements Iterator<T> {
         // This should be the only field you need
         private Iterator<KVPair<T, Boolean>> iter;
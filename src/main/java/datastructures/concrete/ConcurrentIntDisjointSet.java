@@ -0,0 +1,138 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IIntDisjointSet;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A lock-free union-find forest over the dense ids 0 through size() - 1 that any
+ * number of threads may use at the same time.
+ *
+ * Every id stores its parent in an AtomicIntegerArray, and a root is its own
+ * parent. union links one root below the other with a single compareAndSet; if
+ * another thread changed that root first, the operation simply retries. findSet
+ * uses path splitting: each node on the path is CASed to point at its grandparent,
+ * and a failed CAS is harmless because some other thread already shortened it.
+ *
+ * Roots are linked by index: the root that comes first in a fixed pseudo-random
+ * order of the ids goes below the other. Scrambling the order (rather than comparing
+ * ids directly) keeps trees shallow even when callers union ids in sorted order.
+ *
+ * The number of ids is fixed when the forest is created.
+ *
+ * @see IIntDisjointSet for more details.
+ */
+public class ConcurrentIntDisjointSet implements IIntDisjointSet {
+    private final AtomicIntegerArray parents;
+
+    /**
+     * Creates a forest where each of the ids 0 through count - 1 is in a set of its own.
+     *
+     * @throws IllegalArgumentException  if count < 0
+     */
+    public ConcurrentIntDisjointSet(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.parents = new AtomicIntegerArray(count);
+        for (int i = 0; i < count; i++) {
+            this.parents.set(i, i);
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.parents.length();
+    }
+
+    /**
+     * Returns the representative of the set containing the given id. While other
+     * threads are calling union, the result may stop being a representative as soon
+     * as it is returned; use connected() to compare two ids reliably.
+     *
+     * @throws IllegalArgumentException  if id is not in [0, size())
+     */
+    @Override
+    public int findSet(int id) {
+        this.checkId(id);
+        return this.find(id);
+    }
+
+    @Override
+    public boolean union(int id1, int id2) {
+        this.checkId(id1);
+        this.checkId(id2);
+        while (true) {
+            int root1 = this.find(id1);
+            int root2 = this.find(id2);
+            if (root1 == root2) {
+                return false;
+            }
+            if (order(root1) > order(root2)) {
+                int temp = root1;
+                root1 = root2;
+                root2 = temp;
+            }
+            // Only succeeds if root1 is still a root; otherwise someone else linked it.
+            if (this.parents.compareAndSet(root1, root1, root2)) {
+                return true;
+            }
+            id1 = root1;
+            id2 = root2;
+        }
+    }
+
+    /**
+     * Returns 'true' if the two given ids are in the same set.
+     *
+     * Two ids that were reported as connected stay connected, even while other
+     * threads keep calling union.
+     *
+     * @throws IllegalArgumentException  if either id is not in [0, size())
+     */
+    @Override
+    public boolean connected(int id1, int id2) {
+        this.checkId(id1);
+        this.checkId(id2);
+        while (true) {
+            int root1 = this.find(id1);
+            int root2 = this.find(id2);
+            if (root1 == root2) {
+                return true;
+            }
+            // root1 may have been linked under root2 after we found it; the answer
+            // "not connected" only holds if root1 is still a root.
+            if (this.parents.get(root1) == root1) {
+                return false;
+            }
+            id1 = root1;
+            id2 = root2;
+        }
+    }
+
+    private int find(int id) {
+        while (true) {
+            int parent = this.parents.get(id);
+            if (parent == id) {
+                return id;
+            }
+            int grandparent = this.parents.get(parent);
+            if (grandparent != parent) {
+                this.parents.compareAndSet(id, parent, grandparent);
+            }
+            id = parent;
+        }
+    }
+
+    // A bijection on ints that scrambles the order of nearby ids.
+    private static int order(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= this.parents.length()) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IIntPriorityQueue;
+import misc.exceptions.EmptyContainerException;
+
+/**
+ * A 4-ary min-heap specialized for shortest-path style searches: every entry is an
+ * int value (typically a dense vertex id in [0, capacity)) ordered by a double key.
+ *
+ * Keys and values live in two parallel primitive arrays, so nothing is boxed and
+ * nothing is allocated after construction. A third array maps each value to its
+ * slot in the heap, which makes contains() and decreaseKey() constant-time lookups.
+ *
+ * Each value may be in the heap at most once.
+ */
+public class DoubleIntHeap implements IIntPriorityQueue {
+    private static final int NUM_CHILDREN = 4;
+    private static final int ABSENT = -1;
+
+    private double[] keys;
+    private int[] values;
+    // positions[value] is the heap slot holding 'value', or ABSENT.
+    private int[] positions;
+    private int size;
+
+    /**
+     * Creates an empty heap that can hold the values 0 through capacity - 1.
+     *
+     * @throws IllegalArgumentException  if capacity < 0
+     */
+    public DoubleIntHeap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.keys = new double[capacity];
+        this.values = new int[capacity];
+        this.positions = new int[capacity];
+        this.size = 0;
+        for (int i = 0; i < capacity; i++) {
+            this.positions[i] = ABSENT;
+        }
+    }
+
+    /**
+     * Adds the given value with the given key.
+     *
+     * @throws IllegalArgumentException  if value is out of range or already in the heap
+     */
+    @Override
+    public void insert(int value, double key) {
+        checkRange(value);
+        if (this.positions[value] != ABSENT) {
+            throw new IllegalArgumentException();
+        }
+        this.size++;
+        siftUp(this.size - 1, value, key);
+    }
+
+    /**
+     * Lowers the key of a value that is already in the heap.
+     *
+     * @throws IllegalArgumentException  if the value is not in the heap, or if the new
+     *                                   key is larger than its current key
+     */
+    public void decreaseKey(int value, double key) {
+        checkRange(value);
+        int index = this.positions[value];
+        if (index == ABSENT || key > this.keys[index]) {
+            throw new IllegalArgumentException();
+        }
+        siftUp(index, value, key);
+    }
+
+    /**
+     * Lowers the value's key if it is already in the heap, or inserts it otherwise.
+     * Unlike lazy queues, this never leaves a stale entry behind.
+     *
+     * @throws IllegalArgumentException  if value is out of range, or if it is in the heap
+     *                                   with a smaller key
+     */
+    @Override
+    public void insertOrDecreaseKey(int value, double key) {
+        if (this.contains(value)) {
+            this.decreaseKey(value, key);
+        } else {
+            this.insert(value, key);
+        }
+    }
+
+    /**
+     * Removes and returns the value with the smallest key.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    @Override
+    public int removeMin() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        int out = this.values[0];
+        this.positions[out] = ABSENT;
+        this.size--;
+        if (this.size > 0) {
+            siftDown(0, this.values[this.size], this.keys[this.size]);
+        }
+        return out;
+    }
+
+    /**
+     * Returns, but does not remove, the value with the smallest key.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    public int peekMin() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        return this.values[0];
+    }
+
+    /**
+     * Returns the smallest key in the heap.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    @Override
+    public double peekMinKey() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        return this.keys[0];
+    }
+
+    /**
+     * Returns 'true' if the given value is currently in the heap.
+     */
+    public boolean contains(int value) {
+        return value >= 0 && value < this.positions.length && this.positions[value] != ABSENT;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Removes every entry, keeping the allocated arrays for reuse.
+     */
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.positions[this.values[i]] = ABSENT;
+        }
+        this.size = 0;
+    }
+
+    private void checkRange(int value) {
+        if (value < 0 || value >= this.positions.length) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private void siftUp(int index, int value, double key) {
+        while (index > 0) {
+            int parent = (index - 1) / NUM_CHILDREN;
+            if (this.keys[parent] <= key) {
+                break;
+            }
+            place(index, this.values[parent], this.keys[parent]);
+            index = parent;
+        }
+        place(index, value, key);
+    }
+
+    private void siftDown(int index, int value, double key) {
+        while (true) {
+            int firstChild = index * NUM_CHILDREN + 1;
+            if (firstChild >= this.size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + NUM_CHILDREN, this.size);
+            int min = firstChild;
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (this.keys[child] < this.keys[min]) {
+                    min = child;
+                }
+            }
+            if (this.keys[min] >= key) {
+                break;
+            }
+            place(index, this.values[min], this.keys[min]);
+            index = min;
+        }
+        place(index, value, key);
+    }
+
+    private void place(int index, int value, double key) {
+        this.keys[index] = key;
+        this.values[index] = value;
+        this.positions[value] = index;
+    }
+}
@@ -0,0 +1,202 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * An IList backed by a growable array.
+ *
+ * get, set, add and remove (at the end) take O(1) time; insert and delete shift
+ * every later element and take O(n - index) time. Prefer this over DoubleLinkedList
+ * whenever a list is read by index.
+ *
+ * @see datastructures.interfaces.IList
+ */
+public class DynamicArrayList<T> implements IList<T> {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private T[] array;
+    private int size;
+
+    public DynamicArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list with room for 'capacity' elements before it has to grow.
+     *
+     * @throws IllegalArgumentException  if capacity < 0
+     */
+    public DynamicArrayList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.array = makeArrayOfT(capacity);
+        this.size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] makeArrayOfT(int arraySize) {
+        return (T[]) new Object[arraySize];
+    }
+
+    @Override
+    public void add(T item) {
+        if (this.size == this.array.length) {
+            this.grow(this.size + 1);
+        }
+        this.array[this.size] = item;
+        this.size++;
+    }
+
+    @Override
+    public T remove() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        this.size--;
+        T out = this.array[this.size];
+        this.array[this.size] = null;
+        return out;
+    }
+
+    @Override
+    public T get(int index) {
+        this.checkIndex(index, this.size);
+        return this.array[index];
+    }
+
+    @Override
+    public void set(int index, T item) {
+        this.checkIndex(index, this.size);
+        this.array[index] = item;
+    }
+
+    @Override
+    public void insert(int index, T item) {
+        this.checkIndex(index, this.size + 1);
+        if (this.size == this.array.length) {
+            this.grow(this.size + 1);
+        }
+        System.arraycopy(this.array, index, this.array, index + 1, this.size - index);
+        this.array[index] = item;
+        this.size++;
+    }
+
+    @Override
+    public T delete(int index) {
+        this.checkIndex(index, this.size);
+        T out = this.array[index];
+        System.arraycopy(this.array, index + 1, this.array, index, this.size - index - 1);
+        this.size--;
+        this.array[this.size] = null;
+        return out;
+    }
+
+    @Override
+    public int indexOf(T item) {
+        for (int i = 0; i < this.size; i++) {
+            T current = this.array[i];
+            if (current == item || (current != null && current.equals(item))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return this.indexOf(other) >= 0;
+    }
+
+    /**
+     * Makes sure the list can hold at least 'capacity' elements without growing again.
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > this.array.length) {
+            this.grow(capacity);
+        }
+    }
+
+    /**
+     * Shrinks the backing array to exactly the number of elements in the list.
+     */
+    public void trimToSize() {
+        if (this.array.length != this.size) {
+            T[] newArray = makeArrayOfT(this.size);
+            System.arraycopy(this.array, 0, newArray, 0, this.size);
+            this.array = newArray;
+        }
+    }
+
+    /**
+     * Reverses the order of the elements in place.
+     */
+    public void reverse() {
+        for (int i = 0, j = this.size - 1; i < j; i++, j--) {
+            T temp = this.array[i];
+            this.array[i] = this.array[j];
+            this.array[j] = temp;
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new DynamicArrayListIterator();
+    }
+
+    /**
+     * Splits by halving the index range, straight over the backing array.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(this.array, 0, this.size, Spliterator.ORDERED);
+    }
+
+    // Grows the array to at least minCapacity, and at least to 1.5 times its size.
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(minCapacity, this.array.length + (this.array.length >> 1));
+        T[] newArray = makeArrayOfT(newCapacity);
+        System.arraycopy(this.array, 0, newArray, 0, this.size);
+        this.array = newArray;
+    }
+
+    private void checkIndex(int index, int limit) {
+        if (index < 0 || index >= limit) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private class DynamicArrayListIterator implements Iterator<T> {
+        private int next;
+
+        public DynamicArrayListIterator() {
+            this.next = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next < size;
+        }
+
+        @Override
+        public T next() {
+            if (this.next >= size) {
+                throw new NoSuchElementException();
+            }
+            T item = array[this.next];
+            this.next++;
+            return item;
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package datastructures.concrete;
 
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.ImmutableDictionary;
+import datastructures.concrete.dictionaries.ProbingHashDictionary;
 import datastructures.interfaces.IDictionary;
-import datastructures.interfaces.IDisjointSet;
 import datastructures.interfaces.IEdge;
+import datastructures.interfaces.IIntDisjointSet;
+import datastructures.interfaces.IIntPriorityQueue;
 import datastructures.interfaces.IList;
-import datastructures.interfaces.IPriorityQueue;
 import datastructures.interfaces.ISet;
 import misc.Sorter;
 import misc.exceptions.NoPathExistsException;
 
+import java.util.Arrays;
+
 /**
  * Represents an undirected, weighted graph, possibly containing self-loops, parallel edges,
  * and unconnected components.
@@ -19,9 +23,54 @@ import misc.exceptions.NoPathExistsException;
  * remainder of the project.
  */
 public class Graph<V, E extends IEdge<V> & Comparable<E>> {
+    /**
+     * The priority queues findShortestPathBetween can use for its frontier.
+     */
+    public enum ShortestPathQueue {
+        /**
+         * Uses RADIX_HEAP when every edge weight is a whole number no larger than
+         * MAX_RADIX_WEIGHT, and DOUBLE_HEAP otherwise. This is the default.
+         */
+        AUTOMATIC,
+        /**
+         * An indexed 4-ary heap with decrease-key (DoubleIntHeap). Works for any weights.
+         */
+        DOUBLE_HEAP,
+        /**
+         * A monotone radix heap (RadixHeap). Requires whole-number weights.
+         */
+        RADIX_HEAP,
+        /**
+         * A pairing heap (PairingHeap) that lowers keys through per-vertex handles.
+         * Works for any weights.
+         */
+        PAIRING_HEAP,
+        /**
+         * A plain ArrayHeap with no decrease-key: improved distances are inserted as
+         * extra entries and stale ones are skipped. Works for any weights; mostly
+         * useful as a baseline.
+         */
+        ARRAY_HEAP
+    }
+
+    /**
+     * The largest edge weight for which AUTOMATIC picks the radix heap. Keeping weights
+     * this small keeps every path length exactly representable as a double.
+     */
+    public static final double MAX_RADIX_WEIGHT = 1 << 20;
+
     private IList<V> vertices;
     private IList<E> edges;
     private IDictionary<V, ISet<E>> adjList;
+    // Every distinct vertex gets a dense id in [0, numVertices()), so searches can
+    // keep their per-vertex state in plain arrays.
+    private IDictionary<V, Integer> vertexIds;
+    private V[] vertexById;
+    private boolean integralWeights;
+    private ShortestPathQueue shortestPathQueue;
+    // Dense indices for the edges, built the first time a spanning tree is requested,
+    // so spanning trees can be returned as bitsets.
+    private IndexedBitSet.Universe<E> edgeUniverse;
     // NOTE 1:
     //
     // Feel free to add as many fields, private helper methods, and private
@@ -70,15 +119,25 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
     public Graph(IList<V> vertices, IList<E> edges) {
         this.vertices = vertices;
         this.edges = edges;
-        adjList = new ChainedHashDictionary<>();
+        adjList = new ProbingHashDictionary<>(vertices.size());
+        vertexIds = new ProbingHashDictionary<>(vertices.size());
+        vertexById = makeArrayOfV(vertices.size());
         for (V vertex : this.vertices) {
             if (vertex == null) {
                throw new IllegalArgumentException();
             }
+            if (!vertexIds.containsKey(vertex)) {
+                vertexById[vertexIds.size()] = vertex;
+                vertexIds.put(vertex, vertexIds.size());
+            }
             adjList.put(vertex, new ChainedHashSet<>());
         }
 
+        integralWeights = true;
+        shortestPathQueue = ShortestPathQueue.AUTOMATIC;
         for (E edge : this.edges) {
+            double weight = edge.getWeight();
+            integralWeights &= weight == Math.floor(weight) && weight <= MAX_RADIX_WEIGHT;
             V v1 = edge.getVertex1();
             V v2 = edge.getVertex2();
             if (!adjList.containsKey(v1) || !adjList.containsKey(v2) || edge.getWeight() < 0) {
@@ -91,6 +150,9 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
             adjList.put(v1, neighbor1);
             adjList.put(v2, neighbor2);
         }
+        // Both dictionaries are only read from now on.
+        adjList = ImmutableDictionary.copyOf(adjList);
+        vertexIds = ImmutableDictionary.copyOf(vertexIds);
     }
 
     /**
@@ -114,13 +176,50 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
         if (set == null) {
             throw new IllegalArgumentException();
         }
-        IList<T> output = new DoubleLinkedList<>();
+        IList<T> output = new DynamicArrayList<>(set.size());
         for (T item : set) {
             output.add(item);
         }
         return output;
     }
 
+    @SuppressWarnings("unchecked")
+    private V[] makeArrayOfV(int size) {
+        return (V[]) new Object[size];
+    }
+
+    @SuppressWarnings("unchecked")
+    private E[] makeArrayOfE(int size) {
+        return (E[]) new IEdge[size];
+    }
+
+    /**
+     * Chooses the priority queue used by findShortestPathBetween.
+     *
+     * @throws IllegalArgumentException if queue is null
+     * @throws IllegalArgumentException if queue is RADIX_HEAP but some edge weight is
+     *                                  not a whole number up to MAX_RADIX_WEIGHT
+     */
+    public void setShortestPathQueue(ShortestPathQueue queue) {
+        if (queue == null || (queue == ShortestPathQueue.RADIX_HEAP && !integralWeights)) {
+            throw new IllegalArgumentException();
+        }
+        this.shortestPathQueue = queue;
+    }
+
+    private IIntPriorityQueue makeFrontier() {
+        boolean useRadix = shortestPathQueue == ShortestPathQueue.RADIX_HEAP
+                || (shortestPathQueue == ShortestPathQueue.AUTOMATIC && integralWeights);
+        if (useRadix) {
+            return new RadixHeap();
+        } else if (shortestPathQueue == ShortestPathQueue.PAIRING_HEAP) {
+            return new PairingFrontier(vertexIds.size());
+        } else if (shortestPathQueue == ShortestPathQueue.ARRAY_HEAP) {
+            return new ArrayHeapFrontier();
+        }
+        return new DoubleIntHeap(vertexIds.size());
+    }
+
     /**
      * Returns the number of vertices contained within this graph.
      */
@@ -144,20 +243,29 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
      * Precondition: the graph does not contain any unconnected components.
      */
     public ISet<E> findMinimumSpanningTree() {
-        IList<E> sortedEdges = Sorter.topKSort(numEdges(), edges);
-        ISet<E> result = new ChainedHashSet<>();
-        IDisjointSet<V> disjset = new ArrayDisjointSet<>();
-        for (V vertex : vertices) {
-            disjset.makeSet(vertex);
+        if (edgeUniverse == null) {
+            edgeUniverse = new IndexedBitSet.Universe<>(edges);
+            // The result shares this universe; sealing it keeps edges added to a
+            // result from turning up in later calls.
+            edgeUniverse.seal();
+        }
+        // Kruskal only needs the edges in weight order, so radix sort the edges'
+        // universe indices by a flat array of weights instead of sorting the edges.
+        double[] weights = new double[edgeUniverse.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = edgeUniverse.get(i).getWeight();
         }
+        int[] sortedEdges = Sorter.radixSortIndices(weights);
+        IndexedBitSet<E> result = new IndexedBitSet<>(edgeUniverse);
+        // Vertices already have dense ids, so the forest can work on those directly.
+        IIntDisjointSet disjset = new IntDisjointSet(vertexIds.size());
         int index = 0;
         while (result.size() < vertices.size() - 1) {
-            E singleEdge = sortedEdges.get(index);
-            V v1 = singleEdge.getVertex1();
-            V v2 = singleEdge.getVertex2();
-            if (disjset.findSet(v1) != disjset.findSet(v2)) {
-                disjset.union(v1, v2);
-                result.add(singleEdge);
+            E singleEdge = edgeUniverse.get(sortedEdges[index]);
+            int v1 = vertexIds.get(singleEdge.getVertex1());
+            int v2 = vertexIds.get(singleEdge.getVertex2());
+            if (disjset.union(v1, v2)) {
+                result.addIndex(sortedEdges[index]);
             }
             index++;
         }
@@ -178,73 +286,159 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
      * @throws IllegalArgumentException if start or end is null
      */
     public IList<E> findShortestPathBetween(V start, V end) {
-        IList<E> result = new DoubleLinkedList<>();
+        if (start == null || end == null) {
+            throw new IllegalArgumentException();
+        }
+        DynamicArrayList<E> result = new DynamicArrayList<>();
         if (start.equals(end)) {
             return result;
         }
-        if (start == null || end == null) {
-            throw new IllegalArgumentException();
+        if (!adjList.containsKey(start) || !adjList.containsKey(end)) {
+            throw new NoPathExistsException();
         }
-        IPriorityQueue<Vertex> mpq = new ArrayHeap<>();
-        IDictionary<V, Vertex> nodes = new ChainedHashDictionary<>();
-        IDictionary<V, Vertex> processed = new ChainedHashDictionary<>();
-        for (V vert: vertices) {
-            Vertex temp = new Vertex(vert);
-            if (vert.equals(start)) {
-                temp.cost = 0;
+
+        // Vertices only enter the queue once they are discovered. On a cheaper route,
+        // insertOrDecreaseKey either lowers the vertex's existing key or adds another
+        // entry for it, depending on the queue; any stale entry left behind is
+        // skipped through settled[] when it is popped.
+        int source = vertexIds.get(start);
+        int target = vertexIds.get(end);
+        double[] dist = new double[vertexIds.size()];
+        boolean[] settled = new boolean[vertexIds.size()];
+        E[] parentEdge = makeArrayOfE(vertexIds.size());
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        IIntPriorityQueue frontier = makeFrontier();
+        dist[source] = 0.0;
+        frontier.insert(source, 0.0);
+        while (!frontier.isEmpty()) {
+            int u = frontier.removeMin();
+            if (settled[u]) {
+                continue;
             }
-            mpq.insert(temp);
-            nodes.put(vert, temp);
-        }
-        while (processed.size() < vertices.size()) {
-            Vertex u = mpq.removeMin();
-            if (!processed.containsKey(u.v)) {
-                processed.put(u.v, u);
-                for (E edge : adjList.get(u.v)) {
-                    V neighbor = edge.getOtherVertex(u.v);
-                    if (nodes.containsKey(neighbor)) {
-                        double oldDist = nodes.get(neighbor).cost;
-                        double newDist = u.cost + edge.getWeight();
-                        if (newDist < oldDist) {
-                            nodes.put(neighbor, new Vertex(neighbor, edge, newDist));
-                            mpq.insert(new Vertex(neighbor, edge, newDist));
-                        }
-                    }
+            settled[u] = true;
+            if (u == target) {
+                break;
+            }
+            V uVertex = vertexById[u];
+            for (E edge : adjList.get(uVertex)) {
+                int neighbor = vertexIds.get(edge.getOtherVertex(uVertex));
+                double newDist = dist[u] + edge.getWeight();
+                if (!settled[neighbor] && newDist < dist[neighbor]) {
+                    dist[neighbor] = newDist;
+                    parentEdge[neighbor] = edge;
+                    frontier.insertOrDecreaseKey(neighbor, newDist);
                 }
             }
         }
-        if (!processed.containsKey(end) || processed.get(end).cost == Double.POSITIVE_INFINITY) {
+        if (!settled[target]) {
             throw new NoPathExistsException();
         }
-        E edgeBack = processed.get(end).e;
+        // Collect the edges from the end backwards, then flip them into order.
         V otherVectex = end;
         while (!otherVectex.equals(start)) {
-            result.insert(0, edgeBack);
+            E edgeBack = parentEdge[vertexIds.get(otherVectex)];
+            result.add(edgeBack);
             otherVectex = edgeBack.getOtherVertex(otherVectex);
-            edgeBack = processed.get(otherVectex).e;
         }
+        result.reverse();
         return  result;
     }
 
-    private class Vertex implements Comparable<Vertex> {
-        private V v;
-        private E e;
-        private double cost;
+    /**
+     * A frontier entry for the object-based heaps: a vertex id and its tentative distance.
+     */
+    private static class QueuedVertex implements Comparable<QueuedVertex> {
+        private final int id;
+        private final double distance;
 
-        public Vertex(V v, E e, double cost) {
-            this.v = v;
-            this.e = e;
-            this.cost = cost;
+        public QueuedVertex(int id, double distance) {
+            this.id = id;
+            this.distance = distance;
         }
 
-        public Vertex(V v){
-            this.v = v;
-            this.cost = Double.POSITIVE_INFINITY;
+        @Override
+        public int compareTo(QueuedVertex other) {
+            return Double.compare(this.distance, other.distance);
+        }
+    }
+
+    /**
+     * Adapts PairingHeap to IIntPriorityQueue, keeping one handle per queued vertex id
+     * so improved distances become decreaseKey calls instead of extra entries.
+     */
+    private static class PairingFrontier implements IIntPriorityQueue {
+        private PairingHeap<QueuedVertex> heap;
+        private PairingHeap.Handle<QueuedVertex>[] handles;
+
+        @SuppressWarnings("unchecked")
+        public PairingFrontier(int numVertices) {
+            this.heap = new PairingHeap<>();
+            this.handles = (PairingHeap.Handle<QueuedVertex>[]) new PairingHeap.Handle[numVertices];
+        }
+
+        @Override
+        public void insert(int value, double key) {
+            this.insertOrDecreaseKey(value, key);
+        }
+
+        @Override
+        public void insertOrDecreaseKey(int value, double key) {
+            QueuedVertex entry = new QueuedVertex(value, key);
+            if (this.handles[value] == null) {
+                this.handles[value] = this.heap.add(entry);
+            } else {
+                this.heap.decreaseKey(this.handles[value], entry);
+            }
+        }
+
+        @Override
+        public int removeMin() {
+            int id = this.heap.removeMin().id;
+            this.handles[id] = null;
+            return id;
+        }
+
+        @Override
+        public double peekMinKey() {
+            return this.heap.peekMin().distance;
+        }
+
+        @Override
+        public int size() {
+            return this.heap.size();
+        }
+    }
+
+    /**
+     * Adapts ArrayHeap to IIntPriorityQueue. Without decrease-key, every improvement
+     * adds another entry; the search skips the stale ones when they come out.
+     */
+    private static class ArrayHeapFrontier implements IIntPriorityQueue {
+        private ArrayHeap<QueuedVertex> heap = new ArrayHeap<>();
+
+        @Override
+        public void insert(int value, double key) {
+            this.heap.insert(new QueuedVertex(value, key));
+        }
+
+        @Override
+        public void insertOrDecreaseKey(int value, double key) {
+            this.insert(value, key);
+        }
+
+        @Override
+        public int removeMin() {
+            return this.heap.removeMin().id;
+        }
+
+        @Override
+        public double peekMinKey() {
+            return this.heap.peekMin().distance;
         }
 
         @Override
-        public int compareTo(Vertex o) {
-            return Double.compare(this.cost, o.cost);
+        public int size() {
+            return this.heap.size();
         }
     }
 }
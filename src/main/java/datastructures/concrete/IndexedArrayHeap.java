@@ -0,0 +1,159 @@
+package datastructures.concrete;
+
+import datastructures.concrete.dictionaries.ProbingHashDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IPriorityQueue;
+import misc.exceptions.EmptyContainerException;
+
+/**
+ * A d-ary array heap that also remembers where every item currently sits in the
+ * heap array. This lets clients check for membership and move an item up after
+ * its priority has dropped, instead of inserting a second, cheaper copy of it.
+ *
+ * Items must be unique according to equals(); inserting an item that is already
+ * present is an error.
+ *
+ * @see IPriorityQueue for details on what each method must do.
+ */
+public class IndexedArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
+    private static final int DEFAULT_ARITY = 4;
+
+    private final int arity;
+    private T[] heap;
+    private int size;
+    private IDictionary<T, Integer> positions;
+
+    public IndexedArrayHeap() {
+        this(DEFAULT_ARITY);
+    }
+
+    /**
+     * Creates an empty heap where every node has up to 'arity' children.
+     *
+     * @throws IllegalArgumentException  if arity < 2
+     */
+    public IndexedArrayHeap(int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException();
+        }
+        this.arity = arity;
+        this.heap = makeArrayOfT(20);
+        this.size = 0;
+        this.positions = new ProbingHashDictionary<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] makeArrayOfT(int arraySize) {
+        return (T[]) (new Comparable[arraySize]);
+    }
+
+    @Override
+    public T removeMin() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        T out = this.heap[0];
+        this.positions.remove(out);
+        this.size--;
+        T last = this.heap[this.size];
+        this.heap[this.size] = null;
+        if (this.size > 0) {
+            siftDown(0, last);
+        }
+        return out;
+    }
+
+    @Override
+    public T peekMin() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        return this.heap[0];
+    }
+
+    /**
+     * @throws IllegalArgumentException  if the item is null or already in the heap
+     */
+    @Override
+    public void insert(T item) {
+        if (item == null || this.positions.containsKey(item)) {
+            throw new IllegalArgumentException();
+        }
+        if (this.size == this.heap.length) {
+            T[] temp = makeArrayOfT(this.heap.length * 2);
+            System.arraycopy(this.heap, 0, temp, 0, this.size);
+            this.heap = temp;
+        }
+        this.size++;
+        siftUp(this.size - 1, item);
+    }
+
+    /**
+     * Returns 'true' if the given item is currently in the heap.
+     */
+    public boolean contains(T item) {
+        return this.positions.containsKey(item);
+    }
+
+    /**
+     * Restores the heap order after the given item's priority has been lowered,
+     * i.e. after a change that makes it compare as smaller than before.
+     *
+     * @throws IllegalArgumentException  if the item is not in the heap
+     */
+    public void decreaseKey(T item) {
+        Integer index = this.positions.getOrDefault(item, null);
+        if (index == null) {
+            throw new IllegalArgumentException();
+        }
+        siftUp(index, item);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    // Moves the hole at 'index' up until 'item' can be placed without breaking the
+    // heap order, shifting parents down as it goes.
+    private void siftUp(int index, T item) {
+        while (index > 0) {
+            int parent = (index - 1) / this.arity;
+            if (this.heap[parent].compareTo(item) <= 0) {
+                break;
+            }
+            place(this.heap[parent], index);
+            index = parent;
+        }
+        place(item, index);
+    }
+
+    // Moves the hole at 'index' down until 'item' can be placed without breaking
+    // the heap order, shifting the smallest child up as it goes.
+    private void siftDown(int index, T item) {
+        while (true) {
+            int firstChild = index * this.arity + 1;
+            if (firstChild >= this.size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + this.arity, this.size);
+            int min = firstChild;
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (this.heap[child].compareTo(this.heap[min]) < 0) {
+                    min = child;
+                }
+            }
+            if (this.heap[min].compareTo(item) >= 0) {
+                break;
+            }
+            place(this.heap[min], index);
+            index = min;
+        }
+        place(item, index);
+    }
+
+    private void place(T item, int index) {
+        this.heap[index] = item;
+        this.positions.put(item, index);
+    }
+}
@@ -0,0 +1,397 @@
+package datastructures.concrete;
+
+import datastructures.concrete.dictionaries.ProbingHashDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.ISet;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An ISet stored as one bit per item of a shared Universe, which numbers its items
+ * 0, 1, 2, ... in the order they were registered.
+ *
+ * Membership costs a single bit in a long[], so many sets over the same items
+ * (say, every set of walls carved from one maze) share one index and stay small.
+ * Sets built on the same universe can be combined a whole word (64 items) at a
+ * time with union, intersect and subtract.
+ *
+ * Adding an item the universe has not seen yet registers it there, so any item
+ * may be added, unless the universe has been sealed. Iteration visits items in
+ * universe order.
+ *
+ * @see ISet for more details on what each method is supposed to do.
+ */
+public class IndexedBitSet<T> implements ISet<T> {
+    /**
+     * Assigns every distinct item a dense index, in the order items are registered.
+     */
+    public static class Universe<T> {
+        private IDictionary<T, Integer> ids;
+        private DynamicArrayList<T> items;
+        private boolean sealed;
+
+        public Universe() {
+            this.ids = new ProbingHashDictionary<>();
+            this.items = new DynamicArrayList<>();
+            this.sealed = false;
+        }
+
+        /**
+         * Creates a universe containing every item of 'items', numbered in iteration
+         * order. Repeated items keep the index of their first occurrence.
+         *
+         * @throws IllegalArgumentException  if items is null
+         */
+        public Universe(Iterable<T> items) {
+            this();
+            if (items == null) {
+                throw new IllegalArgumentException();
+            }
+            for (T item : items) {
+                this.register(item);
+            }
+        }
+
+        /**
+         * Returns the index of the given item, or -1 if it is not in this universe.
+         */
+        public int indexOf(T item) {
+            return this.ids.getOrDefault(item, -1);
+        }
+
+        /**
+         * Stops this universe from taking new items. A structure that hands out sets
+         * over a universe it keeps for itself seals it, so that adding a foreign item
+         * to one of those sets cannot change the structure.
+         */
+        public void seal() {
+            this.sealed = true;
+        }
+
+        /**
+         * Returns true if seal() has been called.
+         */
+        public boolean isSealed() {
+            return this.sealed;
+        }
+
+        /**
+         * Returns the index of the given item, adding it to the universe first if needed.
+         *
+         * @throws IllegalArgumentException  if the item is new and the universe is sealed
+         */
+        public int register(T item) {
+            int index = this.indexOf(item);
+            if (index < 0) {
+                if (this.sealed) {
+                    throw new IllegalArgumentException();
+                }
+                index = this.items.size();
+                this.ids.put(item, index);
+                this.items.add(item);
+            }
+            return index;
+        }
+
+        /**
+         * Returns the item with the given index.
+         *
+         * @throws IndexOutOfBoundsException  if index < 0 or index >= size()
+         */
+        public T get(int index) {
+            return this.items.get(index);
+        }
+
+        /**
+         * Returns the number of items in this universe.
+         */
+        public int size() {
+            return this.items.size();
+        }
+    }
+
+    private final Universe<T> universe;
+    private long[] words;
+    private int size;
+
+    /**
+     * Creates an empty set over a new, empty universe.
+     */
+    public IndexedBitSet() {
+        this(new Universe<>());
+    }
+
+    /**
+     * Creates an empty set over the given universe.
+     *
+     * @throws IllegalArgumentException  if universe is null
+     */
+    public IndexedBitSet(Universe<T> universe) {
+        if (universe == null) {
+            throw new IllegalArgumentException();
+        }
+        this.universe = universe;
+        this.words = new long[wordCount(universe.size())];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the universe this set draws its indices from.
+     */
+    public Universe<T> getUniverse() {
+        return this.universe;
+    }
+
+    /**
+     * @throws IllegalArgumentException  if the item is not in the universe and the
+     *                                   universe is sealed
+     */
+    @Override
+    public void add(T item) {
+        this.addIndex(this.universe.register(item));
+    }
+
+    /**
+     * Adds the item with the given universe index.
+     *
+     * @throws IndexOutOfBoundsException  if index < 0 or index >= getUniverse().size()
+     */
+    public void addIndex(int index) {
+        this.checkIndex(index);
+        this.ensureWords(index);
+        long mask = 1L << index;
+        int word = index >>> 6;
+        if ((this.words[word] & mask) == 0) {
+            this.words[word] |= mask;
+            this.size++;
+        }
+    }
+
+    @Override
+    public void remove(T item) {
+        int index = this.universe.indexOf(item);
+        if (index < 0 || !this.containsIndex(index)) {
+            throw new NoSuchElementException();
+        }
+        this.words[index >>> 6] &= ~(1L << index);
+        this.size--;
+    }
+
+    @Override
+    public boolean contains(T item) {
+        int index = this.universe.indexOf(item);
+        return index >= 0 && this.containsIndex(index);
+    }
+
+    /**
+     * Returns 'true' if the item with the given universe index is in this set.
+     */
+    public boolean containsIndex(int index) {
+        int word = index >>> 6;
+        return index >= 0 && word < this.words.length && (this.words[word] & (1L << index)) != 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds every item of 'other' to this set.
+     *
+     * @throws IllegalArgumentException  if other does not share this set's universe
+     */
+    public void union(IndexedBitSet<T> other) {
+        this.checkSameUniverse(other);
+        if (other.words.length > this.words.length) {
+            this.growWords(other.words.length);
+        }
+        for (int i = 0; i < other.words.length; i++) {
+            this.words[i] |= other.words[i];
+        }
+        this.recount();
+    }
+
+    /**
+     * Removes every item of this set that is not also in 'other'.
+     *
+     * @throws IllegalArgumentException  if other does not share this set's universe
+     */
+    public void intersect(IndexedBitSet<T> other) {
+        this.checkSameUniverse(other);
+        int shared = Math.min(this.words.length, other.words.length);
+        for (int i = 0; i < shared; i++) {
+            this.words[i] &= other.words[i];
+        }
+        for (int i = shared; i < this.words.length; i++) {
+            this.words[i] = 0;
+        }
+        this.recount();
+    }
+
+    /**
+     * Removes every item of 'other' from this set.
+     *
+     * @throws IllegalArgumentException  if other does not share this set's universe
+     */
+    public void subtract(IndexedBitSet<T> other) {
+        this.checkSameUniverse(other);
+        int shared = Math.min(this.words.length, other.words.length);
+        for (int i = 0; i < shared; i++) {
+            this.words[i] &= ~other.words[i];
+        }
+        this.recount();
+    }
+
+    /**
+     * Works a word at a time when 'other' is an IndexedBitSet over the same universe.
+     */
+    @Override
+    public void addAll(ISet<T> other) {
+        if (this.sharesUniverse(other)) {
+            this.union((IndexedBitSet<T>) other);
+        } else {
+            ISet.super.addAll(other);
+        }
+    }
+
+    /**
+     * Works a word at a time when 'other' is an IndexedBitSet over the same universe.
+     */
+    @Override
+    public void removeAll(ISet<T> other) {
+        if (this.sharesUniverse(other)) {
+            this.subtract((IndexedBitSet<T>) other);
+        } else {
+            ISet.super.removeAll(other);
+        }
+    }
+
+    /**
+     * Works a word at a time when 'other' is an IndexedBitSet over the same universe.
+     */
+    @Override
+    public void retainAll(ISet<T> other) {
+        if (this.sharesUniverse(other)) {
+            this.intersect((IndexedBitSet<T>) other);
+        } else {
+            ISet.super.retainAll(other);
+        }
+    }
+
+    /**
+     * Works a word at a time when 'a' and 'b' are IndexedBitSets over this set's universe.
+     */
+    @Override
+    public void addDifference(ISet<T> a, ISet<T> b) {
+        if (!this.sharesUniverse(a) || !this.sharesUniverse(b)) {
+            ISet.super.addDifference(a, b);
+            return;
+        }
+        long[] aWords = ((IndexedBitSet<T>) a).words;
+        long[] bWords = ((IndexedBitSet<T>) b).words;
+        this.growWords(aWords.length);
+        for (int i = 0; i < aWords.length; i++) {
+            this.words[i] |= i < bWords.length ? aWords[i] & ~bWords[i] : aWords[i];
+        }
+        this.recount();
+    }
+
+    /**
+     * Returns a new set over the same universe with the same items.
+     */
+    public IndexedBitSet<T> copy() {
+        IndexedBitSet<T> out = new IndexedBitSet<>(this.universe);
+        out.growWords(this.words.length);
+        System.arraycopy(this.words, 0, out.words, 0, this.words.length);
+        out.size = this.size;
+        return out;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new BitSetIterator<>(this.universe, this.words);
+    }
+
+    private static int wordCount(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.universe.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private boolean sharesUniverse(ISet<T> other) {
+        return other instanceof IndexedBitSet && ((IndexedBitSet<?>) other).universe == this.universe;
+    }
+
+    private void checkSameUniverse(IndexedBitSet<T> other) {
+        if (other == null || other.universe != this.universe) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    // The universe may have grown since this set was created.
+    private void ensureWords(int index) {
+        int needed = (index >>> 6) + 1;
+        if (needed > this.words.length) {
+            this.growWords(Math.max(needed, wordCount(this.universe.size())));
+        }
+    }
+
+    private void growWords(int count) {
+        if (count > this.words.length) {
+            long[] newWords = new long[count];
+            System.arraycopy(this.words, 0, newWords, 0, this.words.length);
+            this.words = newWords;
+        }
+    }
+
+    private void recount() {
+        int count = 0;
+        for (long word : this.words) {
+            count += Long.bitCount(word);
+        }
+        this.size = count;
+    }
+
+    private static class BitSetIterator<T> implements Iterator<T> {
+        private final Universe<T> universe;
+        private final long[] words;
+        private int wordIndex;
+        // The bits of words[wordIndex] that have not been returned yet.
+        private long remaining;
+
+        public BitSetIterator(Universe<T> universe, long[] words) {
+            this.universe = universe;
+            this.words = words;
+            this.wordIndex = 0;
+            this.remaining = words.length > 0 ? words[0] : 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.remaining == 0) {
+                this.wordIndex++;
+                if (this.wordIndex >= this.words.length) {
+                    return false;
+                }
+                this.remaining = this.words[this.wordIndex];
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int bit = Long.numberOfTrailingZeros(this.remaining);
+            this.remaining &= this.remaining - 1;
+            return this.universe.get((this.wordIndex << 6) + bit);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IIntDisjointSet;
+
+/**
+ * A union-find forest over dense int ids, stored in a single int array: a
+ * non-negative entry is the id of the parent, and a negative entry marks a root
+ * and holds minus the size of its set.
+ *
+ * union links the smaller tree below the larger one (union by size), and findSet
+ * points every other node on the path at its grandparent (path halving), which
+ * keeps trees shallow without a second pass over the path.
+ *
+ * @see IIntDisjointSet for more details.
+ */
+public class IntDisjointSet implements IIntDisjointSet {
+    private int[] pointers;
+    private int size;
+    // Null unless StructureStats.ENABLED.
+    private final StructureStats stats = StructureStats.ENABLED ? new StructureStats() : null;
+
+    public IntDisjointSet() {
+        this(0);
+    }
+
+    /**
+     * Creates a disjoint set where each of the ids 0 through count - 1 is in a set
+     * of its own.
+     *
+     * @throws IllegalArgumentException  if count < 0
+     */
+    public IntDisjointSet(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.pointers = new int[Math.max(count, 8)];
+        this.size = 0;
+        this.makeSets(count);
+    }
+
+    /**
+     * Adds 'count' new single-item sets, with the ids size() through
+     * size() + count - 1, and returns the first new id.
+     *
+     * @throws IllegalArgumentException  if count < 0
+     */
+    public int makeSets(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException();
+        }
+        int first = this.size;
+        if (first + count > this.pointers.length) {
+            int[] newPointers = new int[Math.max(first + count, this.pointers.length * 2)];
+            System.arraycopy(this.pointers, 0, newPointers, 0, first);
+            this.pointers = newPointers;
+        }
+        for (int i = first; i < first + count; i++) {
+            this.pointers[i] = -1;
+        }
+        this.size = first + count;
+        return first;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public int findSet(int id) {
+        if (id < 0 || id >= this.size) {
+            throw new IllegalArgumentException();
+        }
+        int[] parents = this.pointers;
+        int steps = 0;
+        while (parents[id] >= 0) {
+            int parent = parents[id];
+            int grandparent = parents[parent];
+            if (grandparent < 0) {
+                if (StructureStats.ENABLED) {
+                    this.stats.recordFind(steps + 1);
+                }
+                return parent;
+            }
+            parents[id] = grandparent;
+            id = grandparent;
+            steps += 2;
+        }
+        if (StructureStats.ENABLED) {
+            this.stats.recordFind(steps);
+        }
+        return id;
+    }
+
+    @Override
+    public boolean union(int id1, int id2) {
+        int root1 = this.findSet(id1);
+        int root2 = this.findSet(id2);
+        if (root1 == root2) {
+            return false;
+        }
+        // Sizes are stored negated, so the larger set has the smaller entry.
+        if (this.pointers[root1] > this.pointers[root2]) {
+            int temp = root1;
+            root1 = root2;
+            root2 = temp;
+        }
+        this.pointers[root1] += this.pointers[root2];
+        this.pointers[root2] = root1;
+        return true;
+    }
+
+    /**
+     * Returns the number of ids in the set containing the given id.
+     *
+     * @throws IllegalArgumentException  if id is not in [0, size())
+     */
+    public int setSize(int id) {
+        return -this.pointers[this.findSet(id)];
+    }
+
+    /**
+     * Returns the stats collected for this disjoint set, or null if stats are disabled.
+     * Path lengths count the parent pointers between an id and its root, before
+     * the path is shortened.
+     *
+     * @see StructureStats
+     */
+    public StructureStats getStats() {
+        return this.stats;
+    }
+}
@@ -0,0 +1,151 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IConcurrentPriorityQueue;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A relaxed concurrent priority queue made of several ArrayHeap shards, each
+ * guarded by its own lock.
+ *
+ * insert puts the item into a random shard. tryRemoveMin looks at the current
+ * minimum of two random shards and removes from the one with the smaller item
+ * ("two-choice" deletion). Threads never wait for a busy shard: if tryLock fails
+ * they simply pick other shards. With a few shards per thread this keeps contention
+ * low, while the two-choice rule keeps removed items close to the true minimum.
+ *
+ * @see IConcurrentPriorityQueue for details on what each method must do.
+ */
+public class MultiQueue<T extends Comparable<T>> implements IConcurrentPriorityQueue<T> {
+    private static final int SHARDS_PER_THREAD = 2;
+    // Random two-choice attempts before falling back to a full sweep of the shards.
+    private static final int MAX_RANDOM_ATTEMPTS = 32;
+
+    private final ArrayHeap<T>[] shards;
+    private final ReentrantLock[] locks;
+    // tops.get(i) is shards[i].peekMin(), or null if that shard is empty. It is only
+    // written while holding locks[i], but may be read without it.
+    private final AtomicReferenceArray<T> tops;
+    private final AtomicInteger size;
+
+    /**
+     * Creates a queue with two shards per available processor.
+     */
+    public MultiQueue() {
+        this(SHARDS_PER_THREAD * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a queue with the given number of shards. Use at least two per thread
+     * that will be using the queue.
+     *
+     * @throws IllegalArgumentException  if numShards < 1
+     */
+    @SuppressWarnings("unchecked")
+    public MultiQueue(int numShards) {
+        if (numShards < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.shards = (ArrayHeap<T>[]) new ArrayHeap[numShards];
+        this.locks = new ReentrantLock[numShards];
+        for (int i = 0; i < numShards; i++) {
+            this.shards[i] = new ArrayHeap<>();
+            this.locks[i] = new ReentrantLock();
+        }
+        this.tops = new AtomicReferenceArray<>(numShards);
+        this.size = new AtomicInteger(0);
+    }
+
+    @Override
+    public void insert(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        // Counted before it becomes visible, so size() never drops below zero.
+        this.size.incrementAndGet();
+        ThreadLocalRandom rand = ThreadLocalRandom.current();
+        while (true) {
+            int index = rand.nextInt(this.shards.length);
+            ReentrantLock lock = this.locks[index];
+            if (lock.tryLock()) {
+                try {
+                    ArrayHeap<T> shard = this.shards[index];
+                    shard.insert(item);
+                    this.tops.set(index, shard.peekMin());
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+        }
+    }
+
+    @Override
+    public T tryRemoveMin() {
+        ThreadLocalRandom rand = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < MAX_RANDOM_ATTEMPTS; attempt++) {
+            if (this.size.get() == 0) {
+                return null;
+            }
+            int first = rand.nextInt(this.shards.length);
+            int second = rand.nextInt(this.shards.length);
+            T firstTop = this.tops.get(first);
+            T secondTop = this.tops.get(second);
+            int chosen;
+            if (firstTop == null && secondTop == null) {
+                continue;
+            } else if (firstTop == null) {
+                chosen = second;
+            } else if (secondTop == null) {
+                chosen = first;
+            } else {
+                chosen = secondTop.compareTo(firstTop) < 0 ? second : first;
+            }
+            if (this.locks[chosen].tryLock()) {
+                T out = this.removeFromLockedShard(chosen);
+                if (out != null) {
+                    return out;
+                }
+            }
+        }
+        // Few items spread over many shards: random probing keeps missing them, so
+        // check every shard in turn, waiting for the locks this time.
+        for (int index = 0; index < this.shards.length; index++) {
+            if (this.tops.get(index) != null) {
+                this.locks[index].lock();
+                T out = this.removeFromLockedShard(index);
+                if (out != null) {
+                    return out;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int size() {
+        return this.size.get();
+    }
+
+    // Removes the minimum of the given shard, whose lock the caller holds, and then
+    // releases the lock. Returns null if the shard turned out to be empty.
+    private T removeFromLockedShard(int index) {
+        T out = null;
+        try {
+            ArrayHeap<T> shard = this.shards[index];
+            if (!shard.isEmpty()) {
+                out = shard.removeMin();
+                this.tops.set(index, shard.isEmpty() ? null : shard.peekMin());
+            }
+        } finally {
+            this.locks[index].unlock();
+        }
+        if (out != null) {
+            this.size.decrementAndGet();
+        }
+        return out;
+    }
+}
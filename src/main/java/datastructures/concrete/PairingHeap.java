@@ -0,0 +1,232 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IPriorityQueue;
+import misc.exceptions.EmptyContainerException;
+
+/**
+ * A pairing heap: a heap-ordered multiway tree where every node points to its
+ * leftmost child and its next sibling.
+ *
+ * Besides the IPriorityQueue operations this supports
+ *
+ * - decreaseKey(handle, item) in O(1) (amortized o(log n)), using the handle
+ *   returned by add(...), and
+ * - meld(other) in O(1), which moves every item of another pairing heap into
+ *   this one.
+ *
+ * Nodes freed by removeMin are kept on a free list and reused by later inserts,
+ * so a heap that shrinks and grows repeatedly stops allocating nodes. Because of
+ * that reuse, a handle is only valid while its item is still in the heap: once
+ * the item has been removed, the handle must not be used again.
+ *
+ * @see IPriorityQueue for details on what each method must do.
+ */
+public class PairingHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
+    /**
+     * Identifies one item inside a pairing heap, for use with decreaseKey.
+     */
+    public static final class Handle<T> {
+        private T item;
+        private Handle<T> child;
+        private Handle<T> sibling;
+        // The parent if this is a leftmost child, otherwise the previous sibling.
+        private Handle<T> prev;
+
+        private Handle() {
+        }
+
+        /**
+         * Returns the item this handle currently refers to.
+         */
+        public T getItem() {
+            return this.item;
+        }
+    }
+
+    private Handle<T> root;
+    private int size;
+    // Recycled nodes, chained through their 'sibling' field.
+    private Handle<T> freeList;
+
+    public PairingHeap() {
+        this.root = null;
+        this.size = 0;
+        this.freeList = null;
+    }
+
+    @Override
+    public void insert(T item) {
+        this.add(item);
+    }
+
+    /**
+     * Inserts the given item and returns a handle that can later be passed to
+     * decreaseKey.
+     *
+     * @throws IllegalArgumentException  if the item is null
+     */
+    public Handle<T> add(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        Handle<T> node = this.obtainNode(item);
+        this.root = link(this.root, node);
+        this.size++;
+        return node;
+    }
+
+    @Override
+    public T removeMin() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        Handle<T> oldRoot = this.root;
+        T out = oldRoot.item;
+        this.root = combineSiblings(oldRoot.child);
+        this.recycle(oldRoot);
+        this.size--;
+        return out;
+    }
+
+    @Override
+    public T peekMin() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        return this.root.item;
+    }
+
+    /**
+     * Replaces the item behind the given handle with a smaller (or equal) one and
+     * restores the heap order.
+     *
+     * The handle must have come from this heap (or from a heap melded into it) and
+     * its item must not have been removed yet.
+     *
+     * @throws IllegalArgumentException  if the handle or item is null, or if the new
+     *                                   item is larger than the current one
+     */
+    public void decreaseKey(Handle<T> handle, T item) {
+        if (handle == null || item == null || item.compareTo(handle.item) > 0) {
+            throw new IllegalArgumentException();
+        }
+        handle.item = item;
+        if (handle == this.root) {
+            return;
+        }
+        // Detach the handle's subtree and link it back in at the top.
+        if (handle.prev.child == handle) {
+            handle.prev.child = handle.sibling;
+        } else {
+            handle.prev.sibling = handle.sibling;
+        }
+        if (handle.sibling != null) {
+            handle.sibling.prev = handle.prev;
+        }
+        handle.sibling = null;
+        handle.prev = null;
+        this.root = link(this.root, handle);
+    }
+
+    /**
+     * Moves every item in 'other' into this heap in constant time, leaving 'other'
+     * empty. Handles into 'other' stay valid and now refer to items in this heap.
+     *
+     * @throws IllegalArgumentException  if other is null or is this heap
+     */
+    public void meld(PairingHeap<T> other) {
+        if (other == null || other == this) {
+            throw new IllegalArgumentException();
+        }
+        this.root = link(this.root, other.root);
+        this.size += other.size;
+        other.root = null;
+        other.size = 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    // Makes the root with the larger item the leftmost child of the other root, and
+    // returns the combined root. Both arguments must be roots (no sibling, no prev).
+    private Handle<T> link(Handle<T> first, Handle<T> second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (second.item.compareTo(first.item) < 0) {
+            Handle<T> temp = first;
+            first = second;
+            second = temp;
+        }
+        second.prev = first;
+        second.sibling = first.child;
+        if (first.child != null) {
+            first.child.prev = second;
+        }
+        first.child = second;
+        return first;
+    }
+
+    // The standard two-pass pairing: link the children in pairs from left to right,
+    // then fold the resulting trees together from right to left.
+    private Handle<T> combineSiblings(Handle<T> first) {
+        if (first == null) {
+            return null;
+        }
+        // First pass. The linked pairs are collected in reverse order, chained
+        // through 'sibling', which is exactly the order the second pass wants.
+        Handle<T> pairs = null;
+        Handle<T> current = first;
+        while (current != null) {
+            Handle<T> a = current;
+            Handle<T> b = a.sibling;
+            current = b == null ? null : b.sibling;
+            a.sibling = null;
+            a.prev = null;
+            if (b != null) {
+                b.sibling = null;
+                b.prev = null;
+            }
+            Handle<T> merged = link(a, b);
+            merged.sibling = pairs;
+            pairs = merged;
+        }
+
+        // Second pass.
+        Handle<T> result = pairs;
+        Handle<T> rest = pairs.sibling;
+        result.sibling = null;
+        while (rest != null) {
+            Handle<T> next = rest.sibling;
+            rest.sibling = null;
+            result = link(result, rest);
+            rest = next;
+        }
+        return result;
+    }
+
+    private Handle<T> obtainNode(T item) {
+        Handle<T> node = this.freeList;
+        if (node == null) {
+            node = new Handle<>();
+        } else {
+            this.freeList = node.sibling;
+            node.sibling = null;
+        }
+        node.item = item;
+        return node;
+    }
+
+    private void recycle(Handle<T> node) {
+        node.item = null;
+        node.child = null;
+        node.prev = null;
+        node.sibling = this.freeList;
+        this.freeList = node;
+    }
+}
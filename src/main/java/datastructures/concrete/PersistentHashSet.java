@@ -0,0 +1,174 @@
+package datastructures.concrete;
+
+import datastructures.concrete.dictionaries.PersistentHashDictionary;
+import datastructures.interfaces.ISet;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A set whose versions share structure, backed by a PersistentHashDictionary.
+ *
+ * with(item) and without(item) return a new version and copy() returns one in O(1);
+ * add and remove update this object without affecting versions taken from it.
+ *
+ * @see ISet for more details on what each method is supposed to do.
+ * @see PersistentHashDictionary
+ */
+public class PersistentHashSet<T> implements ISet<T> {
+    private PersistentHashDictionary<T, Boolean> map;
+
+    public PersistentHashSet() {
+        this(new PersistentHashDictionary<>());
+    }
+
+    private PersistentHashSet(PersistentHashDictionary<T, Boolean> map) {
+        this.map = map;
+    }
+
+    /**
+     * Returns a persistent copy of the given set. If it already is a
+     * PersistentHashSet, this takes O(1) time and shares all of its structure.
+     *
+     * @throws IllegalArgumentException  if source is null
+     */
+    public static <T> PersistentHashSet<T> copyOf(ISet<T> source) {
+        if (source == null) {
+            throw new IllegalArgumentException();
+        }
+        if (source instanceof PersistentHashSet) {
+            return ((PersistentHashSet<T>) source).copy();
+        }
+        PersistentHashSet<T> out = new PersistentHashSet<>();
+        out.addAll(source);
+        return out;
+    }
+
+    /**
+     * Returns another version holding the same items, in O(1) time.
+     */
+    public PersistentHashSet<T> copy() {
+        return new PersistentHashSet<>(this.map.copy());
+    }
+
+    /**
+     * Returns a new version that also holds the given item, leaving this one unchanged.
+     */
+    public PersistentHashSet<T> with(T item) {
+        PersistentHashSet<T> out = this.copy();
+        out.add(item);
+        return out;
+    }
+
+    /**
+     * Returns a new version without the given item, leaving this one unchanged.
+     *
+     * @throws NoSuchElementException  if the set does not contain the given item
+     */
+    public PersistentHashSet<T> without(T item) {
+        PersistentHashSet<T> out = this.copy();
+        out.remove(item);
+        return out;
+    }
+
+    @Override
+    public void add(T item) {
+        if (!contains(item)) {
+            map.put(item, true);
+        }
+    }
+
+    @Override
+    public void remove(T item) {
+        if (!contains(item)) {
+            throw new NoSuchElementException();
+        }
+        map.remove(item);
+    }
+
+    @Override
+    public boolean contains(T item) {
+        return map.containsKey(item);
+    }
+
+    /**
+     * When 'a' and 'b' are both PersistentHashSets, skips the subtrees they share, so
+     * diffing a version against one derived from it only visits the changed paths.
+     */
+    @Override
+    public void addDifference(ISet<T> a, ISet<T> b) {
+        if (a instanceof PersistentHashSet && b instanceof PersistentHashSet && a != this && b != this) {
+            ((PersistentHashSet<T>) a).map.forEachKeyNotIn(((PersistentHashSet<T>) b).map, this::add);
+        } else {
+            ISet.super.addDifference(a, b);
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new SetIterator<>(this.map.iterator());
+    }
+
+    /**
+     * Splits the trie by subtree, like the underlying PersistentHashDictionary.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new KeySpliterator<>(this.map.spliterator());
+    }
+
+    private static class KeySpliterator<T> implements Spliterator<T> {
+        private final Spliterator<KVPair<T, Boolean>> pairs;
+
+        public KeySpliterator(Spliterator<KVPair<T, Boolean>> pairs) {
+            this.pairs = pairs;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            return this.pairs.tryAdvance(pair -> action.accept(pair.getKey()));
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<KVPair<T, Boolean>> prefix = this.pairs.trySplit();
+            return prefix == null ? null : new KeySpliterator<>(prefix);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.pairs.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            // A set may hold null.
+            return this.pairs.characteristics() & ~Spliterator.NONNULL;
+        }
+    }
+
+    private static class SetIterator<T> implements Iterator<T> {
+        private Iterator<KVPair<T, Boolean>> iter;
+
+        public SetIterator(Iterator<KVPair<T, Boolean>> iter) {
+            this.iter = iter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.iter.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return this.iter.next().getKey();
+        }
+    }
+}
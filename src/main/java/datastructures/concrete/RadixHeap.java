@@ -0,0 +1,161 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IIntPriorityQueue;
+import misc.exceptions.EmptyContainerException;
+
+/**
+ * A monotone priority queue of int values with non-negative integer keys.
+ *
+ * "Monotone" means a key may never be smaller than the key most recently returned
+ * by removeMin, which is exactly how Dijkstra's algorithm uses its queue when the
+ * edge weights are non-negative.
+ *
+ * Entries are kept in 65 buckets: bucket 0 holds keys equal to the last minimum,
+ * and bucket i holds keys whose highest bit differing from the last minimum is
+ * bit i - 1. Inserting is a push onto a bucket; removeMin only touches a bucket's
+ * contents when it empties bucket 0, after which every entry of the first non-empty
+ * bucket moves down to a strictly lower bucket. Each entry therefore moves at most
+ * 64 times over its lifetime, and no comparisons between entries are made at all.
+ *
+ * There is no decrease-key: insertOrDecreaseKey simply inserts another entry, so
+ * callers must skip values they have already finished with.
+ */
+public class RadixHeap implements IIntPriorityQueue {
+    private static final int NUM_BUCKETS = 65;
+    private static final int INITIAL_BUCKET_CAPACITY = 4;
+    // Keys must be below 2^63 to fit in a long; doubles at or above this cannot be converted.
+    private static final double MAX_KEY = 0x1p63;
+
+    private long[][] bucketKeys;
+    private int[][] bucketValues;
+    private int[] bucketSizes;
+    private long lastMin;
+    private int size;
+
+    public RadixHeap() {
+        this.bucketKeys = new long[NUM_BUCKETS][];
+        this.bucketValues = new int[NUM_BUCKETS][];
+        this.bucketSizes = new int[NUM_BUCKETS];
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            this.bucketKeys[i] = new long[INITIAL_BUCKET_CAPACITY];
+            this.bucketValues[i] = new int[INITIAL_BUCKET_CAPACITY];
+        }
+        this.lastMin = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Inserts the given value with the given key.
+     *
+     * @throws IllegalArgumentException  if the key is smaller than the last key removed
+     *                                   (or negative, if nothing was removed yet)
+     */
+    public void insert(int value, long key) {
+        if (key < this.lastMin) {
+            throw new IllegalArgumentException();
+        }
+        push(bucketIndex(key), key, value);
+        this.size++;
+    }
+
+    /**
+     * @throws IllegalArgumentException  if the key is not a whole number, is too large
+     *                                   to fit in a long, or breaks monotonicity
+     */
+    @Override
+    public void insert(int value, double key) {
+        this.insert(value, toLongKey(key));
+    }
+
+    @Override
+    public void insertOrDecreaseKey(int value, double key) {
+        this.insert(value, toLongKey(key));
+    }
+
+    @Override
+    public int removeMin() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        if (this.bucketSizes[0] == 0) {
+            redistribute();
+        }
+        this.bucketSizes[0]--;
+        this.size--;
+        return this.bucketValues[0][this.bucketSizes[0]];
+    }
+
+    @Override
+    public double peekMinKey() {
+        return this.peekMinLongKey();
+    }
+
+    /**
+     * Returns the smallest key in the queue.
+     *
+     * @throws EmptyContainerException  if the queue is empty
+     */
+    public long peekMinLongKey() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        if (this.bucketSizes[0] == 0) {
+            redistribute();
+        }
+        return this.lastMin;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private static long toLongKey(double key) {
+        if (!(key >= 0 && key < MAX_KEY) || key != Math.floor(key)) {
+            throw new IllegalArgumentException();
+        }
+        return (long) key;
+    }
+
+    private int bucketIndex(long key) {
+        return key == this.lastMin ? 0 : 64 - Long.numberOfLeadingZeros(key ^ this.lastMin);
+    }
+
+    private void push(int bucket, long key, int value) {
+        int count = this.bucketSizes[bucket];
+        if (count == this.bucketKeys[bucket].length) {
+            long[] newKeys = new long[count * 2];
+            int[] newValues = new int[count * 2];
+            System.arraycopy(this.bucketKeys[bucket], 0, newKeys, 0, count);
+            System.arraycopy(this.bucketValues[bucket], 0, newValues, 0, count);
+            this.bucketKeys[bucket] = newKeys;
+            this.bucketValues[bucket] = newValues;
+        }
+        this.bucketKeys[bucket][count] = key;
+        this.bucketValues[bucket][count] = value;
+        this.bucketSizes[bucket] = count + 1;
+    }
+
+    // Called when bucket 0 is empty but the queue is not: makes the smallest key in
+    // the first non-empty bucket the new minimum, and spreads that bucket's entries
+    // over the lower buckets relative to it.
+    private void redistribute() {
+        int bucket = 1;
+        while (this.bucketSizes[bucket] == 0) {
+            bucket++;
+        }
+        long[] keys = this.bucketKeys[bucket];
+        int[] values = this.bucketValues[bucket];
+        int count = this.bucketSizes[bucket];
+
+        long min = keys[0];
+        for (int i = 1; i < count; i++) {
+            min = Math.min(min, keys[i]);
+        }
+        this.lastMin = min;
+        this.bucketSizes[bucket] = 0;
+        for (int i = 0; i < count; i++) {
+            push(bucketIndex(keys[i]), keys[i], values[i]);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IIntDisjointSet;
+
+/**
+ * A union-find forest over dense int ids whose unions can be undone.
+ *
+ * Trees are linked by rank only and paths are never compressed, so every union
+ * changes exactly one parent pointer (and at most one rank). That change is pushed
+ * onto an undo log; checkpoint() marks the current position in the log and
+ * rollback() pops changes until it gets back to the most recent mark. Without path
+ * compression findSet takes O(log n) time, and so do union and connected. Unions
+ * made while no checkpoint is outstanding are permanent and are not logged.
+ *
+ * This suits "what-if" questions on an already-carved maze: after checkpoint(),
+ * union the rooms of every open wall, ask whether removing another wall would join
+ * two rooms that are already connected (and so create a loop), then rollback().
+ *
+ * @see IIntDisjointSet for more details.
+ */
+public class RollbackIntDisjointSet implements IIntDisjointSet {
+    private int[] parents;
+    private byte[] ranks;
+
+    // One entry per successful union: the root that was linked below another root,
+    // and whether that other root's rank went up.
+    private int[] undoRoots;
+    private boolean[] undoRankBumps;
+    private int undoSize;
+
+    // Undo log sizes at each outstanding checkpoint, oldest first.
+    private int[] checkpoints;
+    private int numCheckpoints;
+
+    /**
+     * Creates a forest where each of the ids 0 through count - 1 is in a set of its own.
+     *
+     * @throws IllegalArgumentException  if count < 0
+     */
+    public RollbackIntDisjointSet(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.parents = new int[count];
+        this.ranks = new byte[count];
+        for (int i = 0; i < count; i++) {
+            this.parents[i] = i;
+        }
+        this.undoRoots = new int[16];
+        this.undoRankBumps = new boolean[16];
+        this.undoSize = 0;
+        this.checkpoints = new int[4];
+        this.numCheckpoints = 0;
+    }
+
+    @Override
+    public int size() {
+        return this.parents.length;
+    }
+
+    @Override
+    public int findSet(int id) {
+        if (id < 0 || id >= this.parents.length) {
+            throw new IllegalArgumentException();
+        }
+        while (this.parents[id] != id) {
+            id = this.parents[id];
+        }
+        return id;
+    }
+
+    @Override
+    public boolean union(int id1, int id2) {
+        int root1 = this.findSet(id1);
+        int root2 = this.findSet(id2);
+        if (root1 == root2) {
+            return false;
+        }
+        if (this.ranks[root1] > this.ranks[root2]) {
+            int temp = root1;
+            root1 = root2;
+            root2 = temp;
+        }
+        boolean rankBump = this.ranks[root1] == this.ranks[root2];
+        this.parents[root1] = root2;
+        if (rankBump) {
+            this.ranks[root2]++;
+        }
+        // Unions made while no checkpoint is outstanding can never be undone.
+        if (this.numCheckpoints > 0) {
+            this.log(root1, rankBump);
+        }
+        return true;
+    }
+
+    /**
+     * Marks the current state, so that a later rollback() returns to it.
+     * Checkpoints nest: each rollback() undoes back to the most recent one.
+     */
+    public void checkpoint() {
+        if (this.numCheckpoints == this.checkpoints.length) {
+            int[] newCheckpoints = new int[this.checkpoints.length * 2];
+            System.arraycopy(this.checkpoints, 0, newCheckpoints, 0, this.numCheckpoints);
+            this.checkpoints = newCheckpoints;
+        }
+        this.checkpoints[this.numCheckpoints] = this.undoSize;
+        this.numCheckpoints++;
+    }
+
+    /**
+     * Undoes every union made since the most recent checkpoint, and discards
+     * that checkpoint.
+     *
+     * @throws IllegalStateException  if there is no checkpoint to return to
+     */
+    public void rollback() {
+        if (this.numCheckpoints == 0) {
+            throw new IllegalStateException("No checkpoint to roll back to");
+        }
+        this.numCheckpoints--;
+        int target = this.checkpoints[this.numCheckpoints];
+        while (this.undoSize > target) {
+            this.undoSize--;
+            int root = this.undoRoots[this.undoSize];
+            int parent = this.parents[root];
+            this.parents[root] = root;
+            if (this.undoRankBumps[this.undoSize]) {
+                this.ranks[parent]--;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of checkpoints that have not been rolled back yet.
+     */
+    public int numCheckpoints() {
+        return this.numCheckpoints;
+    }
+
+    private void log(int root, boolean rankBump) {
+        if (this.undoSize == this.undoRoots.length) {
+            int[] newRoots = new int[this.undoRoots.length * 2];
+            boolean[] newBumps = new boolean[this.undoRoots.length * 2];
+            System.arraycopy(this.undoRoots, 0, newRoots, 0, this.undoSize);
+            System.arraycopy(this.undoRankBumps, 0, newBumps, 0, this.undoSize);
+            this.undoRoots = newRoots;
+            this.undoRankBumps = newBumps;
+        }
+        this.undoRoots[this.undoSize] = root;
+        this.undoRankBumps[this.undoSize] = rankBump;
+        this.undoSize++;
+    }
+}
@@ -0,0 +1,157 @@
+package datastructures.concrete;
+
+/**
+ * Counters describing how a data structure has been behaving: probes per lookup
+ * for the hash dictionaries, resize count and time, sift depth for heaps and path
+ * length for disjoint-set finds. Each structure only fills in the counters that
+ * apply to it.
+ *
+ * Collection is off unless the JVM is started with -Ddatastructures.stats=true.
+ * The flag is read once into ENABLED, and every recording site is guarded by
+ * 'if (StructureStats.ENABLED)', so when it is off the JIT drops the guarded code
+ * and the structures' getStats() methods return null.
+ *
+ * Stats are not thread-safe; they are meant for single-threaded experiments.
+ */
+public class StructureStats {
+    public static final boolean ENABLED = Boolean.getBoolean("datastructures.stats");
+
+    private long lookups;
+    private long probes;
+    private int maxProbes;
+
+    private int resizes;
+    private long resizeNanos;
+
+    private long sifts;
+    private long siftLevels;
+    private int maxSiftDepth;
+
+    private long finds;
+    private long findSteps;
+    private int maxFindPath;
+
+    /**
+     * Records one lookup that had to examine the given number of entries.
+     */
+    public void recordLookup(int probeCount) {
+        this.lookups++;
+        this.probes += probeCount;
+        this.maxProbes = Math.max(this.maxProbes, probeCount);
+    }
+
+    /**
+     * Records that a resize started.
+     */
+    public void recordResize() {
+        this.resizes++;
+    }
+
+    /**
+     * Adds time spent moving entries between tables. Incremental resizes report
+     * their time piece by piece as they migrate.
+     */
+    public void recordResizeTime(long nanos) {
+        this.resizeNanos += nanos;
+    }
+
+    /**
+     * Records one sift (up or down) of a heap that moved the item the given
+     * number of levels.
+     */
+    public void recordSift(int levels) {
+        this.sifts++;
+        this.siftLevels += levels;
+        this.maxSiftDepth = Math.max(this.maxSiftDepth, levels);
+    }
+
+    /**
+     * Records one find that followed the given number of parent pointers.
+     */
+    public void recordFind(int pathLength) {
+        this.finds++;
+        this.findSteps += pathLength;
+        this.maxFindPath = Math.max(this.maxFindPath, pathLength);
+    }
+
+    public long getLookups() {
+        return this.lookups;
+    }
+
+    /**
+     * Returns the average number of entries examined per lookup, or 0 if there
+     * were no lookups.
+     */
+    public double getAverageProbes() {
+        return this.lookups == 0 ? 0 : (double) this.probes / this.lookups;
+    }
+
+    public int getMaxProbes() {
+        return this.maxProbes;
+    }
+
+    public int getResizes() {
+        return this.resizes;
+    }
+
+    public long getResizeNanos() {
+        return this.resizeNanos;
+    }
+
+    public long getSifts() {
+        return this.sifts;
+    }
+
+    /**
+     * Returns the average number of levels moved per sift, or 0 if there were no sifts.
+     */
+    public double getAverageSiftDepth() {
+        return this.sifts == 0 ? 0 : (double) this.siftLevels / this.sifts;
+    }
+
+    public int getMaxSiftDepth() {
+        return this.maxSiftDepth;
+    }
+
+    public long getFinds() {
+        return this.finds;
+    }
+
+    /**
+     * Returns the average number of parent pointers followed per find, or 0 if
+     * there were no finds.
+     */
+    public double getAverageFindPath() {
+        return this.finds == 0 ? 0 : (double) this.findSteps / this.finds;
+    }
+
+    public int getMaxFindPath() {
+        return this.maxFindPath;
+    }
+
+    /**
+     * Sets every counter back to zero.
+     */
+    public void reset() {
+        this.lookups = 0;
+        this.probes = 0;
+        this.maxProbes = 0;
+        this.resizes = 0;
+        this.resizeNanos = 0;
+        this.sifts = 0;
+        this.siftLevels = 0;
+        this.maxSiftDepth = 0;
+        this.finds = 0;
+        this.findSteps = 0;
+        this.maxFindPath = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("lookups=%d avgProbes=%.2f maxProbes=%d resizes=%d resizeMs=%.3f "
+                        + "sifts=%d avgSift=%.2f maxSift=%d finds=%d avgFind=%.2f maxFind=%d",
+                this.lookups, this.getAverageProbes(), this.maxProbes, this.resizes, this.resizeNanos / 1e6,
+                this.sifts, this.getAverageSiftDepth(), this.maxSiftDepth,
+                this.finds, this.getAverageFindPath(), this.maxFindPath);
+    }
+}
@@ -0,0 +1,314 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A doubly linked list whose nodes each hold a small array of elements instead of
+ * a single one.
+ *
+ * Indexed operations walk from whichever of the two ends and the node last reached
+ * by index is closest, like DoubleLinkedList's cursor. So adding or removing at
+ * either end, and inserting or deleting next to a position that has just been
+ * looked up, stay cheap, but there is one node object per block of elements rather
+ * than per element. That saves memory and makes iteration mostly a walk over
+ * contiguous arrays.
+ *
+ * A full node is split in half before inserting into it; a node that becomes empty
+ * is unlinked, and a node that drops below a quarter full is merged into its
+ * neighbor when the two fit into one node.
+ *
+ * @see datastructures.interfaces.IList
+ */
+public class UnrolledLinkedList<T> implements IList<T> {
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private final int nodeCapacity;
+    private Node<T> front;
+    private Node<T> back;
+    private int size;
+    // The node most recently reached by index, and the index of its first element.
+    // Null when unset.
+    private Node<T> cursor;
+    private int cursorStart;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list whose nodes hold up to 'nodeCapacity' elements each.
+     * Values between 32 and 128 work well.
+     *
+     * @throws IllegalArgumentException  if nodeCapacity < 4
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 4) {
+            throw new IllegalArgumentException();
+        }
+        this.nodeCapacity = nodeCapacity;
+        this.front = null;
+        this.back = null;
+        this.size = 0;
+        this.cursor = null;
+        this.cursorStart = 0;
+    }
+
+    @Override
+    public void add(T item) {
+        if (this.back == null || this.back.count == this.nodeCapacity) {
+            this.linkAfter(this.back, new Node<>(this.nodeCapacity));
+        }
+        this.back.items[this.back.count] = item;
+        this.back.count++;
+        this.size++;
+    }
+
+    @Override
+    public T remove() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        return this.delete(this.size - 1);
+    }
+
+    // Walks to the node holding 'index' from whichever of front, back and the cursor
+    // is closest, and leaves the cursor there. The element's offset within the node
+    // is then index - cursorStart.
+    private Node<T> nodeAt(int index) {
+        Node<T> node;
+        int start;
+        if (index < this.size - index) {
+            node = this.front;
+            start = 0;
+        } else {
+            node = this.back;
+            start = this.size - node.count;
+        }
+        if (this.cursor != null && Math.abs(index - this.cursorStart) < Math.abs(index - start)) {
+            node = this.cursor;
+            start = this.cursorStart;
+        }
+        while (index >= start + node.count) {
+            start += node.count;
+            node = node.next;
+        }
+        while (index < start) {
+            node = node.prev;
+            start -= node.count;
+        }
+        this.cursor = node;
+        this.cursorStart = start;
+        return node;
+    }
+
+    @Override
+    public T get(int index) {
+        this.checkIndex(index, this.size);
+        Node<T> node = this.nodeAt(index);
+        return node.get(index - this.cursorStart);
+    }
+
+    @Override
+    public void set(int index, T item) {
+        this.checkIndex(index, this.size);
+        Node<T> node = this.nodeAt(index);
+        node.items[index - this.cursorStart] = item;
+    }
+
+    @Override
+    public void insert(int index, T item) {
+        this.checkIndex(index, this.size + 1);
+        if (index == this.size) {
+            this.add(item);
+            return;
+        }
+        // The cursor stays on 'node', whose first index neither the split nor the
+        // insert changes.
+        Node<T> node = this.nodeAt(index);
+        int offset = index - this.cursorStart;
+        if (node.count == this.nodeCapacity) {
+            Node<T> half = this.split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = half;
+            }
+        }
+        System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+        node.items[offset] = item;
+        node.count++;
+        this.size++;
+    }
+
+    @Override
+    public T delete(int index) {
+        this.checkIndex(index, this.size);
+        Node<T> node = this.nodeAt(index);
+        int offset = index - this.cursorStart;
+        T out = node.get(offset);
+        System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset - 1);
+        node.count--;
+        node.items[node.count] = null;
+        this.size--;
+
+        if (node.count == 0) {
+            this.unlink(node);
+        } else if (node.count < this.nodeCapacity / 4) {
+            this.mergeWithNeighbor(node);
+        }
+        return out;
+    }
+
+    @Override
+    public int indexOf(T item) {
+        int index = 0;
+        for (Node<T> node = this.front; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                Object current = node.items[i];
+                if (current == item || (current != null && current.equals(item))) {
+                    return index + i;
+                }
+            }
+            index += node.count;
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return this.indexOf(other) >= 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new UnrolledLinkedListIterator<>(this.front);
+    }
+
+    // Moves the upper half of a full node into a new node right after it, and
+    // returns the new node.
+    private Node<T> split(Node<T> node) {
+        Node<T> half = new Node<>(this.nodeCapacity);
+        int keep = node.count / 2;
+        int moved = node.count - keep;
+        System.arraycopy(node.items, keep, half.items, 0, moved);
+        for (int i = keep; i < node.count; i++) {
+            node.items[i] = null;
+        }
+        node.count = keep;
+        half.count = moved;
+        this.linkAfter(node, half);
+        return half;
+    }
+
+    // Folds a sparse node into the following node or the previous one, if either
+    // has room for all of its elements.
+    private void mergeWithNeighbor(Node<T> node) {
+        Node<T> next = node.next;
+        if (next != null && node.count + next.count <= this.nodeCapacity) {
+            System.arraycopy(next.items, 0, node.items, node.count, next.count);
+            node.count += next.count;
+            this.unlink(next);
+            return;
+        }
+        Node<T> prev = node.prev;
+        if (prev != null && prev.count + node.count <= this.nodeCapacity) {
+            System.arraycopy(node.items, 0, prev.items, prev.count, node.count);
+            prev.count += node.count;
+            this.unlink(node);
+        }
+    }
+
+    // Links 'node' right after 'prev', or at the front if prev is null.
+    private void linkAfter(Node<T> prev, Node<T> node) {
+        Node<T> next = prev == null ? this.front : prev.next;
+        node.prev = prev;
+        node.next = next;
+        if (prev == null) {
+            this.front = node;
+        } else {
+            prev.next = node;
+        }
+        if (next == null) {
+            this.back = node;
+        } else {
+            next.prev = node;
+        }
+    }
+
+    // Also clears the cursor if it was on 'node'.
+    private void unlink(Node<T> node) {
+        if (node == this.cursor) {
+            this.cursor = null;
+        }
+        if (node.prev == null) {
+            this.front = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            this.back = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+
+    private void checkIndex(int index, int limit) {
+        if (index < 0 || index >= limit) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private static class Node<E> {
+        public final Object[] items;
+        public int count;
+        public Node<E> prev;
+        public Node<E> next;
+
+        public Node(int capacity) {
+            this.items = new Object[capacity];
+            this.count = 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E get(int offset) {
+            return (E) this.items[offset];
+        }
+    }
+
+    private static class UnrolledLinkedListIterator<T> implements Iterator<T> {
+        private Node<T> current;
+        private int offset;
+
+        public UnrolledLinkedListIterator(Node<T> current) {
+            this.current = current;
+            this.offset = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.current != null;
+        }
+
+        @Override
+        public T next() {
+            if (this.current == null) {
+                throw new NoSuchElementException();
+            }
+            T item = this.current.get(this.offset);
+            this.offset++;
+            if (this.offset == this.current.count) {
+                this.current = this.current.next;
+                this.offset = 0;
+            }
+            return item;
+        }
+    }
+}
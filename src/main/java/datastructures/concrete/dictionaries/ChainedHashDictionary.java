@@ -1,31 +1,99 @@
 package datastructures.concrete.dictionaries;
 
 import datastructures.concrete.KVPair;
+import datastructures.concrete.StructureStats;
 import datastructures.interfaces.IDictionary;
 import misc.exceptions.NoSuchKeyException;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
  * @see IDictionary and the assignment page for more details on what each method should do
  */
 public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
+    private static final int MIN_CHAIN_SIZE = 8;
+    // The largest power of two an int (and an array length) can hold.
+    private static final int MAX_CHAIN_SIZE = 1 << 30;
+    // How many old buckets to move into the new table per operation while an
+    // incremental resize is in progress.
+    private static final int MIGRATION_STEP = 4;
+
     // You may not change or rename this field: we will be inspecting
     // it using our private tests.
     private IDictionary<K, V>[] chains;
     private int chainSize;
     private int load;
+    // The table never shrinks below this many buckets: the size asked for through
+    // the constructor or ensureCapacity, or MIN_CHAIN_SIZE.
+    private int minChainSize;
+
+    // Incremental resizing: while a resize is in progress, 'oldChains' holds the
+    // previous table. Buckets oldChains[0 .. migrateIndex - 1] have already been
+    // moved into 'chains'; a key whose old bucket is at or past 'migrateIndex'
+    // still lives in 'oldChains'. When no resize is in progress, 'oldChains' is null.
+    private boolean incrementalResize;
+    private IDictionary<K, V>[] oldChains;
+    private int migrateIndex;
 
-    // You're encouraged to add extra fields (and helper methods) though!
+    private final HashMixer mixer;
+    // Null unless StructureStats.ENABLED.
+    private final StructureStats stats;
 
     public ChainedHashDictionary() {
-        this.chainSize = 8;
-        this.load = 0;
-        this.chains = makeArrayOfChains(this.chainSize);
-        for (int i = 0; i < this.chainSize; i++) {
-            this.chains[i] = new ArrayDictionary<>();
+        this(false);
+    }
+
+    /**
+     * Creates a new dictionary. If 'incrementalResize' is true, growing or shrinking
+     * the table is spread over the operations that follow instead of rebuilding the
+     * whole table inside a single call to put or remove.
+     */
+    public ChainedHashDictionary(boolean incrementalResize) {
+        this(incrementalResize, HashMixer.IDENTITY);
+    }
+
+    /**
+     * Creates a new dictionary that runs every key's hashCode() through 'mixer'
+     * before picking a bucket. The default is HashMixer.IDENTITY.
+     *
+     * @throws IllegalArgumentException  if mixer is null
+     */
+    public ChainedHashDictionary(boolean incrementalResize, HashMixer mixer) {
+        this(incrementalResize, mixer, 0);
+    }
+
+    /**
+     * Creates a dictionary presized to hold at least the given number of pairs
+     * without resizing.
+     *
+     * @throws IllegalArgumentException  if expectedSize is negative
+     */
+    public ChainedHashDictionary(int expectedSize) {
+        this(false, HashMixer.IDENTITY, expectedSize);
+    }
+
+    /**
+     * Creates a dictionary with the given resizing mode and mixer, presized to hold
+     * at least 'expectedSize' pairs without resizing.
+     *
+     * @throws IllegalArgumentException  if mixer is null or expectedSize is negative
+     */
+    public ChainedHashDictionary(boolean incrementalResize, HashMixer mixer, int expectedSize) {
+        if (mixer == null || expectedSize < 0) {
+            throw new IllegalArgumentException();
         }
+        this.mixer = mixer;
+        this.stats = StructureStats.ENABLED ? new StructureStats() : null;
+        this.incrementalResize = incrementalResize;
+        this.chainSize = chainSizeFor(expectedSize);
+        this.minChainSize = this.chainSize;
+        this.load = 0;
+        this.chains = makeFilledChains(this.chainSize);
+        this.oldChains = null;
+        this.migrateIndex = 0;
     }
 
     /**
@@ -42,70 +110,200 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
         return (IDictionary<K, V>[]) new IDictionary[size];
     }
 
+    private IDictionary<K, V>[] makeFilledChains(int size) {
+        IDictionary<K, V>[] result = makeArrayOfChains(size);
+        for (int i = 0; i < size; i++) {
+            result[i] = new ArrayDictionary<>();
+        }
+        return result;
+    }
+
+    // The table grows once the load reaches the number of buckets, so holding
+    // 'expectedSize' pairs takes a power of two strictly greater than that, up to
+    // MAX_CHAIN_SIZE.
+    private static int chainSizeFor(int expectedSize) {
+        int size = MIN_CHAIN_SIZE;
+        while (size <= expectedSize && size < MAX_CHAIN_SIZE) {
+            size *= 2;
+        }
+        return size;
+    }
+
+    /**
+     * Grows the table, if needed, so that it can hold at least 'expectedSize' pairs
+     * without resizing again. Removals will not shrink it below that size either.
+     */
+    public void ensureCapacity(int expectedSize) {
+        this.minChainSize = Math.max(this.minChainSize, chainSizeFor(expectedSize));
+        this.growFor(expectedSize);
+    }
+
+    /**
+     * Grows the table, if needed, ahead of a bulk insert that will leave about
+     * 'expectedSize' pairs. Unlike ensureCapacity, later removals may still shrink it.
+     */
+    public void growFor(int expectedSize) {
+        int needed = chainSizeFor(expectedSize);
+        if (needed > this.chainSize) {
+            resize(needed);
+        }
+    }
+
     private int keyHashIndex(K key, int size) {
         if (key == null) {
             return 0;
         }
-        return Math.abs(key.hashCode() % size);
+        return Math.abs(this.mixer.mix(key.hashCode()) % size);
+    }
+
+    // Returns the bucket that currently holds (or would hold) the given key.
+    private IDictionary<K, V> chainFor(K key) {
+        if (this.oldChains != null) {
+            int oldIndex = keyHashIndex(key, this.oldChains.length);
+            if (oldIndex >= this.migrateIndex) {
+                return this.oldChains[oldIndex];
+            }
+        }
+        return this.chains[keyHashIndex(key, this.chainSize)];
+    }
+
+    // Like chainFor, but counts the lookup. A chain is scanned linearly, so its
+    // size is what a miss costs and a bound on what a hit costs.
+    private IDictionary<K, V> lookupChain(K key) {
+        IDictionary<K, V> target = chainFor(key);
+        if (StructureStats.ENABLED) {
+            this.stats.recordLookup(target.size());
+        }
+        return target;
     }
 
     @Override
     public V get(K key) {
-        if (!containsKey(key))      {
+        IDictionary<K, V> target = lookupChain(key);
+        if (!target.containsKey(key)) {
             throw new NoSuchKeyException("No such key!");
         }
-        int hashedIndex = keyHashIndex(key, this.chainSize);
-        IDictionary<K, V>  target = this.chains[hashedIndex];
         return target.get(key);
     }
 
     @Override
     public void put(K key, V value) {
-        int hashedIndex = keyHashIndex(key, this.chainSize);
-        if (!containsKey(key)) {
+        migrateSome();
+        IDictionary<K, V> target = lookupChain(key);
+        int oldSize = target.size();
+        target.put(key, value);
+        if (target.size() > oldSize) {
             this.load++;
-        }
-        this.chains[hashedIndex].put(key, value);
-        rehash();
-    }
-
-    private void rehash() {
-        double loadFactor = (double) this.load / this.chainSize;
-        if (loadFactor >= 1.0) {
-            IDictionary<K, V>[] newList = this.chains;
-            this.chains = makeArrayOfChains(this.chainSize * 2);
-            this.chainSize *= 2;
-            this.load = 0;
-            for (int i = 0; i < this.chainSize; i++) {
-                this.chains[i] = new ArrayDictionary<>();
-            }
-            for (int i = 0; i < newList.length; i++){
-                if (newList[i].size() != 0) {
-                    for (KVPair<K, V> pairs : newList[i]) {
-                        put(pairs.getKey(), pairs.getValue());
-                    }
-                }
+            if (this.load >= this.chainSize) {
+                resize(this.chainSize * 2);
             }
         }
     }
 
     @Override
     public V remove(K key) {
-        if (!containsKey(key)) {
+        migrateSome();
+        IDictionary<K, V> target = lookupChain(key);
+        if (!target.containsKey(key)) {
             throw new NoSuchKeyException("No such key!");
         }
-        int hashedIndex = keyHashIndex(key, this.chainSize);
-        load--;
-        return chains[hashedIndex].remove(key);
+        V out = target.remove(key);
+        this.load--;
+        if (this.chainSize > this.minChainSize && this.load < this.chainSize / 4) {
+            resize(this.chainSize / 2);
+        }
+        return out;
+    }
+
+    // Switches to a table with the given number of buckets. In incremental mode the
+    // old table is kept around and drained by migrateSome(); otherwise every pair is
+    // moved right away.
+    private void resize(int newSize) {
+        if (StructureStats.ENABLED) {
+            this.stats.recordResize();
+        }
+        if (this.oldChains != null) {
+            // A previous resize is still in flight: finish it before starting another.
+            migrate(this.oldChains.length);
+        }
+        this.oldChains = this.chains;
+        this.migrateIndex = 0;
+        this.chains = makeFilledChains(newSize);
+        this.chainSize = newSize;
+        if (!this.incrementalResize) {
+            migrate(this.oldChains.length);
+        }
+    }
+
+    private void migrateSome() {
+        if (this.oldChains != null) {
+            migrate(MIGRATION_STEP);
+        }
+    }
+
+    // Moves up to 'count' of the remaining old buckets into the current table.
+    // Pairs are copied straight into their new bucket: they are already known to be
+    // unique, so there is no need to go through this.put(...).
+    private void migrate(int count) {
+        long start = StructureStats.ENABLED ? System.nanoTime() : 0;
+        int stop = Math.min(this.oldChains.length, this.migrateIndex + count);
+        for (; this.migrateIndex < stop; this.migrateIndex++) {
+            IDictionary<K, V> bucket = this.oldChains[this.migrateIndex];
+            if (!bucket.isEmpty()) {
+                for (KVPair<K, V> pair : bucket) {
+                    this.chains[keyHashIndex(pair.getKey(), this.chainSize)].put(pair.getKey(), pair.getValue());
+                }
+            }
+            this.oldChains[this.migrateIndex] = null;
+        }
+        if (this.migrateIndex == this.oldChains.length) {
+            this.oldChains = null;
+            this.migrateIndex = 0;
+        }
+        if (StructureStats.ENABLED) {
+            this.stats.recordResizeTime(System.nanoTime() - start);
+        }
     }
 
     @Override
     public boolean containsKey(K key) {
-        int hashedIndex = keyHashIndex(key, this.chainSize);
-        if (chains[hashedIndex] != null) {
-            return chains[hashedIndex].containsKey(key);
+        return lookupChain(key).containsKey(key);
+    }
+
+    /**
+     * Returns the stats collected for this dictionary, or null if stats are disabled.
+     *
+     * @see StructureStats
+     */
+    public StructureStats getStats() {
+        return this.stats;
+    }
+
+    /**
+     * Returns a histogram of chain lengths: entry i is the number of buckets
+     * holding exactly i pairs. While an incremental resize is in progress, buckets
+     * of both tables are counted.
+     */
+    public int[] chainLengthHistogram() {
+        int longest = 0;
+        for (int i = 0; i < this.chainSize; i++) {
+            longest = Math.max(longest, this.chains[i].size());
         }
-        return false;
+        if (this.oldChains != null) {
+            for (int i = this.migrateIndex; i < this.oldChains.length; i++) {
+                longest = Math.max(longest, this.oldChains[i].size());
+            }
+        }
+        int[] histogram = new int[longest + 1];
+        for (int i = 0; i < this.chainSize; i++) {
+            histogram[this.chains[i].size()]++;
+        }
+        if (this.oldChains != null) {
+            for (int i = this.migrateIndex; i < this.oldChains.length; i++) {
+                histogram[this.oldChains[i].size()]++;
+            }
+        }
+        return histogram;
     }
 
     @Override
@@ -115,8 +313,92 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
 
     @Override
     public Iterator<KVPair<K, V>> iterator() {
-        // Note: you do not need to change this method
-        return new ChainedIterator<>(this.chains);
+        return new ChainedIterator<>(this.chains, this.oldChains, this.migrateIndex);
+    }
+
+    /**
+     * Splits by halving the range of buckets still to be visited, so parallel
+     * streams over large dictionaries divide the table between threads. Only the
+     * unsplit spliterator knows its exact size; the halves estimate theirs.
+     */
+    @Override
+    public Spliterator<KVPair<K, V>> spliterator() {
+        int origin = this.oldChains == null ? 0 : this.migrateIndex - this.oldChains.length;
+        return new BucketSpliterator<>(this.chains, this.oldChains, origin, this.chainSize, this.load, true);
+    }
+
+    // Walks bucket positions [position, fence), numbered like in ChainedIterator: negative
+    // positions index into the not-yet-migrated tail of the old table.
+    private static class BucketSpliterator<K, V> implements Spliterator<KVPair<K, V>> {
+        private final IDictionary<K, V>[] chains;
+        private final IDictionary<K, V>[] oldChains;
+        private int position;
+        private final int fence;
+        // Iterator over the bucket at position - 1, or null before the first bucket.
+        private Iterator<KVPair<K, V>> itr;
+        private long estimate;
+        private boolean exact;
+
+        public BucketSpliterator(IDictionary<K, V>[] chains, IDictionary<K, V>[] oldChains,
+                                 int origin, int fence, long estimate, boolean exact) {
+            this.chains = chains;
+            this.oldChains = oldChains;
+            this.position = origin;
+            this.fence = fence;
+            this.itr = null;
+            this.estimate = estimate;
+            this.exact = exact;
+        }
+
+        private IDictionary<K, V> chainAt(int index) {
+            if (index < 0) {
+                return this.oldChains[this.oldChains.length + index];
+            }
+            return this.chains[index];
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super KVPair<K, V>> action) {
+            while (this.itr == null || !this.itr.hasNext()) {
+                if (this.position >= this.fence) {
+                    return false;
+                }
+                this.itr = this.chainAt(this.position).iterator();
+                this.position++;
+            }
+            if (this.estimate > 0) {
+                this.estimate--;
+            }
+            action.accept(this.itr.next());
+            return true;
+        }
+
+        @Override
+        public Spliterator<KVPair<K, V>> trySplit() {
+            // Only buckets that have not been opened yet are handed off.
+            int mid = (this.position + this.fence) >> 1;
+            if (mid <= this.position) {
+                return null;
+            }
+            this.estimate >>>= 1;
+            this.exact = false;
+            BucketSpliterator<K, V> prefix =
+                    new BucketSpliterator<>(this.chains, this.oldChains, this.position, mid, this.estimate, false);
+            prefix.itr = this.itr;
+            this.itr = null;
+            this.position = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return (this.exact ? Spliterator.SIZED : 0) | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
     }
 
     /**
@@ -162,51 +444,49 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
      *    instance inside your 'chains' array, however.
      */
     private static class ChainedIterator<K, V> implements Iterator<KVPair<K, V>> {
+        // While a resize is in progress, the not-yet-migrated tail of the old table
+        // (starting at 'oldStart') is walked first, followed by the current table.
         private IDictionary<K, V>[] chains;
+        private IDictionary<K, V>[] oldChains;
         private int indexVer;
         private Iterator<KVPair<K, V>> itr;
 
-
-        public ChainedIterator(IDictionary<K, V>[] chains) {
+        public ChainedIterator(IDictionary<K, V>[] chains, IDictionary<K, V>[] oldChains, int oldStart) {
             this.chains = chains;
-            this.indexVer = 0;
-            this.itr = chains[indexVer].iterator();
+            this.oldChains = oldChains;
+            this.indexVer = oldChains == null ? 0 : oldStart - oldChains.length;
+            this.itr = chainAt(this.indexVer).iterator();
+            advance();
+        }
 
-            while (indexVer < this.chains.length-1  && !itr.hasNext()) {   // not null
-                indexVer++;
-                itr = this.chains[indexVer].iterator();
+        // Negative positions index into the tail of the old table.
+        private IDictionary<K, V> chainAt(int position) {
+            if (position < 0) {
+                return this.oldChains[this.oldChains.length + position];
             }
+            return this.chains[position];
         }
 
-        @Override
-        public boolean hasNext() {
-            if (itr.hasNext()) {
-                return  true;
-            } else {
-                while ((indexVer < chains.length - 1) && !itr.hasNext()) {   // not null
-                    indexVer++;
-                    itr = this.chains[indexVer].iterator();
-                }
-                return itr.hasNext();
+        // Skips over empty buckets until 'itr' has an element or we run out of buckets.
+        private void advance() {
+            while (!this.itr.hasNext() && this.indexVer < this.chains.length - 1) {
+                this.indexVer++;
+                this.itr = chainAt(this.indexVer).iterator();
             }
         }
 
+        @Override
+        public boolean hasNext() {
+            advance();
+            return this.itr.hasNext();
+        }
 
         @Override
         public KVPair<K, V> next() {
-            if (itr.hasNext()) {
-                return itr.next();
-            } else {
-                while (indexVer < chains.length - 1 && !itr.hasNext()) {   // not null
-                    indexVer++;
-                    itr = chains[indexVer].iterator();
-                }
-                if (itr.hasNext()) {
-                    return itr.next();
-                } else {
-                    throw new NoSuchElementException();
-                }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
             }
+            return this.itr.next();
         }
     }
 }
@@ -0,0 +1,40 @@
+package datastructures.concrete.dictionaries;
+
+/**
+ * Turns a key's hashCode() into the hash a table indexes with. Tables pick a bucket
+ * from the low bits of the hash, so keys whose hash codes differ mostly in their
+ * high bits (java.awt.Point, small multiples of a power of two, ...) pile up in a
+ * few buckets unless the bits are mixed first.
+ */
+@FunctionalInterface
+public interface HashMixer {
+    /**
+     * Uses the hash code unchanged.
+     */
+    HashMixer IDENTITY = hashCode -> hashCode;
+
+    /**
+     * Multiplies by the golden ratio and folds the high half into the low half.
+     * This is the mixing ProbingHashDictionary and ImmutableDictionary use.
+     */
+    HashMixer FIBONACCI = hashCode -> {
+        int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    };
+
+    /**
+     * The MurmurHash3 finalizer: slower than FIBONACCI, but every input bit
+     * affects every output bit.
+     */
+    HashMixer MURMUR3 = hashCode -> {
+        int h = hashCode;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    };
+
+    int mix(int hashCode);
+}
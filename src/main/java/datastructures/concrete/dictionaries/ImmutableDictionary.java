@@ -0,0 +1,256 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A read-only dictionary, built once from another dictionary and laid out for fast
+ * lookups in as little memory as possible.
+ *
+ * The entries are sorted by hash bucket into flat, gap-free key, value and hash
+ * arrays, and bucketStarts[b] records where bucket b's entries begin. There are
+ * about as many buckets as entries, so a lookup computes the bucket and typically
+ * compares against a single entry, with no probing past other buckets and no empty
+ * slots to pay for.
+ *
+ * put and remove throw UnsupportedOperationException.
+ *
+ * @see IDictionary for details on what each method must do.
+ */
+public class ImmutableDictionary<K, V> implements IDictionary<K, V> {
+    // Stands in for a 'null' key, like in ProbingHashDictionary.
+    private static final Object NULL_KEY = new Object();
+
+    private final Object[] keys;
+    private final Object[] values;
+    private final int[] hashes;
+    // Entries of bucket b are at indices bucketStarts[b] up to bucketStarts[b + 1].
+    private final int[] bucketStarts;
+    private final int mask;
+
+    private ImmutableDictionary(int size) {
+        int numBuckets = 1;
+        while (numBuckets < size) {
+            numBuckets *= 2;
+        }
+        this.keys = new Object[size];
+        this.values = new Object[size];
+        this.hashes = new int[size];
+        this.bucketStarts = new int[numBuckets + 1];
+        this.mask = numBuckets - 1;
+    }
+
+    /**
+     * Returns a read-only copy of the given dictionary. If it is already an
+     * ImmutableDictionary, it is returned as is.
+     *
+     * @throws IllegalArgumentException  if source is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> ImmutableDictionary<K, V> copyOf(IDictionary<K, V> source) {
+        if (source == null) {
+            throw new IllegalArgumentException();
+        }
+        if (source instanceof ImmutableDictionary) {
+            return (ImmutableDictionary<K, V>) source;
+        }
+        int size = source.size();
+        ImmutableDictionary<K, V> out = new ImmutableDictionary<>(size);
+
+        // Counting sort by bucket: count, turn counts into start offsets, then place.
+        int[] entryHashes = new int[size];
+        int index = 0;
+        for (KVPair<K, V> pair : source) {
+            int hash = mix(maskNull(pair.getKey()).hashCode());
+            entryHashes[index] = hash;
+            out.bucketStarts[(hash & out.mask) + 1]++;
+            index++;
+        }
+        for (int b = 1; b < out.bucketStarts.length; b++) {
+            out.bucketStarts[b] += out.bucketStarts[b - 1];
+        }
+        int[] next = new int[out.mask + 1];
+        System.arraycopy(out.bucketStarts, 0, next, 0, next.length);
+        index = 0;
+        for (KVPair<K, V> pair : source) {
+            int hash = entryHashes[index];
+            int slot = next[hash & out.mask];
+            next[hash & out.mask]++;
+            out.keys[slot] = maskNull(pair.getKey());
+            out.values[slot] = pair.getValue();
+            out.hashes[slot] = hash;
+            index++;
+        }
+        return out;
+    }
+
+    private static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> K unmaskNull(Object key) {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    // The same bit mixing as ProbingHashDictionary, so clustered hash codes still
+    // spread over the low bits used to pick a bucket.
+    private static int mix(int hashCode) {
+        int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // Returns the index of the given key, or -1 if the key is absent.
+    private int find(Object key) {
+        Object masked = maskNull(key);
+        int hash = mix(masked.hashCode());
+        int bucket = hash & this.mask;
+        int end = this.bucketStarts[bucket + 1];
+        for (int i = this.bucketStarts[bucket]; i < end; i++) {
+            if (this.hashes[i] == hash) {
+                Object current = this.keys[i];
+                if (current == masked || current.equals(masked)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int index = this.find(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        return (V) this.values[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(K key, V defaultValue) {
+        int index = this.find(key);
+        return index < 0 ? defaultValue : (V) this.values[index];
+    }
+
+    /**
+     * @throws UnsupportedOperationException  always; this dictionary cannot be changed
+     */
+    @Override
+    public void put(K key, V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @throws UnsupportedOperationException  always; this dictionary cannot be changed
+     */
+    @Override
+    public V remove(K key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.find(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return this.keys.length;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new ImmutableIterator<>(this.keys, this.values);
+    }
+
+    /**
+     * Splits by halving the index range of the flat entry arrays.
+     */
+    @Override
+    public Spliterator<KVPair<K, V>> spliterator() {
+        return new ImmutableSpliterator<>(this.keys, this.values, 0, this.keys.length);
+    }
+
+    private static class ImmutableSpliterator<K, V> implements Spliterator<KVPair<K, V>> {
+        private final Object[] keys;
+        private final Object[] values;
+        private int next;
+        private final int fence;
+
+        public ImmutableSpliterator(Object[] keys, Object[] values, int origin, int fence) {
+            this.keys = keys;
+            this.values = values;
+            this.next = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super KVPair<K, V>> action) {
+            if (this.next >= this.fence) {
+                return false;
+            }
+            action.accept(new KVPair<>(unmaskNull(this.keys[this.next]), (V) this.values[this.next]));
+            this.next++;
+            return true;
+        }
+
+        @Override
+        public Spliterator<KVPair<K, V>> trySplit() {
+            int mid = (this.next + this.fence) >>> 1;
+            if (mid <= this.next) {
+                return null;
+            }
+            Spliterator<KVPair<K, V>> prefix = new ImmutableSpliterator<>(this.keys, this.values, this.next, mid);
+            this.next = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.fence - this.next;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.DISTINCT
+                    | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        }
+    }
+
+    private static class ImmutableIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private final Object[] keys;
+        private final Object[] values;
+        private int next;
+
+        public ImmutableIterator(Object[] keys, Object[] values) {
+            this.keys = keys;
+            this.values = values;
+            this.next = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next < this.keys.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<K, V> pair = new KVPair<>(unmaskNull(this.keys[this.next]), (V) this.values[this.next]);
+            this.next++;
+            return pair;
+        }
+    }
+}
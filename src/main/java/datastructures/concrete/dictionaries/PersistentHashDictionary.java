@@ -0,0 +1,615 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A hash array mapped trie: a dictionary whose versions share structure.
+ *
+ * Each trie node covers 5 bits of a key's hash and holds up to 32 children, packed
+ * into an array sized by the number of bits set in the node's bitmap. A child is
+ * either an entry or a deeper node; keys whose whole 32-bit hashes collide share a
+ * collision node. Nodes are never changed once built: an update copies only the
+ * nodes on the path to the key, O(log32 n) of them, and shares every other node with
+ * the version it started from.
+ *
+ * with(key, value) and without(key) return a new version and leave this one as is,
+ * and copy() returns another version in O(1). put and remove follow IDictionary and
+ * update this object in place, by swapping in a new root; versions obtained earlier
+ * from it are unaffected. A version that is copied and then edited costs memory only
+ * for the paths it changed, so a base maze and many carved or edited variants of it
+ * can be kept around at once.
+ *
+ * @see IDictionary for details on what each method must do.
+ */
+public class PersistentHashDictionary<K, V> implements IDictionary<K, V> {
+    // Stands in for a 'null' key, like in ProbingHashDictionary.
+    private static final Object NULL_KEY = new Object();
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    // Bitmap nodes at shifts 0, 5, ..., 30, then at most one collision node.
+    private static final int MAX_DEPTH = (32 + BITS - 1) / BITS + 1;
+
+    // Null while the dictionary is empty.
+    private Node root;
+    private int size;
+
+    public PersistentHashDictionary() {
+        this(null, 0);
+    }
+
+    private PersistentHashDictionary(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns a persistent copy of the given dictionary. If it already is a
+     * PersistentHashDictionary, this takes O(1) time and shares all of its structure.
+     *
+     * @throws IllegalArgumentException  if source is null
+     */
+    public static <K, V> PersistentHashDictionary<K, V> copyOf(IDictionary<K, V> source) {
+        if (source == null) {
+            throw new IllegalArgumentException();
+        }
+        if (source instanceof PersistentHashDictionary) {
+            return ((PersistentHashDictionary<K, V>) source).copy();
+        }
+        PersistentHashDictionary<K, V> out = new PersistentHashDictionary<>();
+        for (KVPair<K, V> pair : source) {
+            out.put(pair.getKey(), pair.getValue());
+        }
+        return out;
+    }
+
+    /**
+     * Returns another version holding the same entries, in O(1) time. Changes made
+     * to either one afterwards are not seen by the other.
+     */
+    public PersistentHashDictionary<K, V> copy() {
+        return new PersistentHashDictionary<>(this.root, this.size);
+    }
+
+    /**
+     * Returns a new version that also maps key to value, leaving this one unchanged.
+     */
+    public PersistentHashDictionary<K, V> with(K key, V value) {
+        PersistentHashDictionary<K, V> out = this.copy();
+        out.put(key, value);
+        return out;
+    }
+
+    /**
+     * Returns a new version without the given key, leaving this one unchanged.
+     *
+     * @throws NoSuchKeyException  if the dictionary does not contain the given key
+     */
+    public PersistentHashDictionary<K, V> without(K key) {
+        PersistentHashDictionary<K, V> out = this.copy();
+        out.remove(key);
+        return out;
+    }
+
+    private static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> K unmaskNull(Object key) {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    // The same bit mixing as ProbingHashDictionary. The trie consumes the hash from
+    // the low bits up, so clustered hash codes would otherwise build deep paths.
+    private static int mix(int hashCode) {
+        int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private Entry find(Object masked) {
+        return this.root == null ? null : this.root.find(0, mix(masked.hashCode()), masked);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        Entry entry = this.find(maskNull(key));
+        if (entry == null) {
+            throw new NoSuchKeyException();
+        }
+        return (V) entry.value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(K key, V defaultValue) {
+        Entry entry = this.find(maskNull(key));
+        return entry == null ? defaultValue : (V) entry.value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        Object masked = maskNull(key);
+        Entry existing = this.find(masked);
+        if (existing != null && existing.value == value) {
+            // Keeps the current nodes, so versions that never really changed still
+            // share everything.
+            return;
+        }
+        Entry entry = new Entry(mix(masked.hashCode()), masked, value);
+        if (this.root == null) {
+            this.root = new BitmapNode(bitFor(entry.hash, 0), new Object[] {entry});
+        } else {
+            this.root = this.root.put(0, entry);
+        }
+        if (existing == null) {
+            this.size++;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        Object masked = maskNull(key);
+        Entry existing = this.find(masked);
+        if (existing == null) {
+            throw new NoSuchKeyException();
+        }
+        this.root = this.root.remove(0, existing.hash, masked);
+        this.size--;
+        return (V) existing.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.find(maskNull(key)) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Calls action on every key of this dictionary that 'other' does not contain.
+     *
+     * Subtrees this version shares with 'other' are skipped without being visited, so
+     * comparing a version with one derived from it takes time proportional to the
+     * number of paths the edits touched rather than to the size of the dictionary.
+     *
+     * @throws IllegalArgumentException  if other or action is null
+     */
+    public void forEachKeyNotIn(PersistentHashDictionary<K, ?> other, Consumer<? super K> action) {
+        if (other == null || action == null) {
+            throw new IllegalArgumentException();
+        }
+        if (this.root != null) {
+            keysNotIn(this.root, other.root, other, action);
+        }
+    }
+
+    // 'mine' and 'theirs' sit at the same position of the two tries (either may be
+    // an entry or a node, and theirs may be null).
+    private static <K> void keysNotIn(Object mine, Object theirs, PersistentHashDictionary<K, ?> other,
+                                      Consumer<? super K> action) {
+        if (mine == theirs) {
+            return;
+        }
+        if (mine instanceof BitmapNode && theirs instanceof BitmapNode) {
+            BitmapNode a = (BitmapNode) mine;
+            BitmapNode b = (BitmapNode) theirs;
+            int bits = a.bitmap;
+            while (bits != 0) {
+                int bit = bits & -bits;
+                bits &= bits - 1;
+                Object child = a.children[a.index(bit)];
+                keysNotIn(child, (b.bitmap & bit) == 0 ? null : b.children[b.index(bit)], other, action);
+            }
+        } else if (theirs == null) {
+            // Nothing under this prefix exists in the other version.
+            forEachEntry(mine, entry -> action.accept(unmaskNull(entry.key)));
+        } else {
+            forEachEntry(mine, entry -> {
+                if (other.find(entry.key) == null) {
+                    action.accept(unmaskNull(entry.key));
+                }
+            });
+        }
+    }
+
+    private static void forEachEntry(Object child, Consumer<Entry> action) {
+        if (child instanceof Entry) {
+            action.accept((Entry) child);
+        } else {
+            for (Object grandchild : ((Node) child).contents()) {
+                forEachEntry(grandchild, action);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new TrieIterator<>(this.root);
+    }
+
+    /**
+     * Splits the root's children in half, and descends into a lone remaining
+     * subtree to split its children in turn.
+     */
+    @Override
+    public Spliterator<KVPair<K, V>> spliterator() {
+        Object[] children = this.root == null ? new Object[0] : this.root.contents();
+        return new TrieSpliterator<>(children, 0, children.length, this.size, true);
+    }
+
+    private static class TrieSpliterator<K, V> implements Spliterator<KVPair<K, V>> {
+        private Object[] children;
+        private int next;
+        private int fence;
+        // Walks the subtree of the child taken last, or is null between children.
+        private TrieIterator<K, V> current;
+        // Exact until the first split; afterwards a guess proportional to the range.
+        private long estimate;
+        private boolean sized;
+
+        public TrieSpliterator(Object[] children, int origin, int fence, long estimate, boolean sized) {
+            this.children = children;
+            this.next = origin;
+            this.fence = fence;
+            this.current = null;
+            this.estimate = estimate;
+            this.sized = sized;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super KVPair<K, V>> action) {
+            while (true) {
+                if (this.current != null) {
+                    if (this.current.hasNext()) {
+                        action.accept(this.current.next());
+                        return true;
+                    }
+                    this.current = null;
+                }
+                if (this.next >= this.fence) {
+                    return false;
+                }
+                Object child = this.children[this.next];
+                this.next++;
+                if (child instanceof Entry) {
+                    Entry entry = (Entry) child;
+                    action.accept(new KVPair<>(unmaskNull(entry.key), (V) entry.value));
+                    return true;
+                }
+                this.current = new TrieIterator<>((Node) child);
+            }
+        }
+
+        @Override
+        public Spliterator<KVPair<K, V>> trySplit() {
+            // A single subtree left untouched can be replaced by its own children.
+            while (this.current == null && this.fence - this.next == 1
+                    && this.children[this.next] instanceof Node) {
+                this.children = ((Node) this.children[this.next]).contents();
+                this.next = 0;
+                this.fence = this.children.length;
+            }
+            int span = this.fence - this.next;
+            if (span < 2) {
+                return null;
+            }
+            int mid = (this.next + this.fence) >>> 1;
+            long prefixEstimate = this.estimate * (mid - this.next) / span;
+            Spliterator<KVPair<K, V>> prefix =
+                    new TrieSpliterator<>(this.children, this.next, mid, prefixEstimate, false);
+            this.next = mid;
+            this.estimate -= prefixEstimate;
+            this.sized = false;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            int flags = Spliterator.DISTINCT | Spliterator.NONNULL;
+            return this.sized ? flags | Spliterator.SIZED : flags;
+        }
+    }
+
+    private static class Entry {
+        public final int hash;
+        public final Object key;
+        public final Object value;
+
+        public Entry(int hash, Object key, Object value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        public boolean matches(int hash, Object key) {
+            return this.hash == hash && (this.key == key || this.key.equals(key));
+        }
+    }
+
+    private abstract static class Node {
+        // Returns the entry for the given key, or null if it is absent.
+        public abstract Entry find(int shift, int hash, Object key);
+
+        // Returns a copy of this node that also holds 'entry', replacing any entry
+        // with the same key.
+        public abstract Node put(int shift, Entry entry);
+
+        // Returns a copy of this node without the given key, which must be present,
+        // or null if nothing would be left.
+        public abstract Node remove(int shift, int hash, Object key);
+
+        // Returns the children: entries and, for bitmap nodes, deeper nodes.
+        public abstract Object[] contents();
+
+        // Returns the entry if this node holds nothing else, so that the parent can
+        // hold it directly instead. Otherwise returns null.
+        public abstract Entry onlyEntry();
+    }
+
+    private static class BitmapNode extends Node {
+        // Bit i is set when some child covers hash fragment i.
+        public final int bitmap;
+        // One child per set bit, in bit order.
+        public final Object[] children;
+
+        public BitmapNode(int bitmap, Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        public int index(int bit) {
+            return Integer.bitCount(this.bitmap & (bit - 1));
+        }
+
+        @Override
+        public Entry find(int shift, int hash, Object key) {
+            BitmapNode node = this;
+            while (true) {
+                int bit = bitFor(hash, shift);
+                if ((node.bitmap & bit) == 0) {
+                    return null;
+                }
+                Object child = node.children[node.index(bit)];
+                if (child instanceof Entry) {
+                    Entry entry = (Entry) child;
+                    return entry.matches(hash, key) ? entry : null;
+                }
+                shift += BITS;
+                if (!(child instanceof BitmapNode)) {
+                    return ((Node) child).find(shift, hash, key);
+                }
+                node = (BitmapNode) child;
+            }
+        }
+
+        @Override
+        public Node put(int shift, Entry entry) {
+            int bit = bitFor(entry.hash, shift);
+            int index = this.index(bit);
+            if ((this.bitmap & bit) == 0) {
+                Object[] grown = new Object[this.children.length + 1];
+                System.arraycopy(this.children, 0, grown, 0, index);
+                grown[index] = entry;
+                System.arraycopy(this.children, index, grown, index + 1, this.children.length - index);
+                return new BitmapNode(this.bitmap | bit, grown);
+            }
+            Object child = this.children[index];
+            Object replacement;
+            if (child instanceof Entry) {
+                Entry current = (Entry) child;
+                replacement = current.matches(entry.hash, entry.key)
+                        ? entry
+                        : pair(shift + BITS, current, entry);
+            } else {
+                replacement = ((Node) child).put(shift + BITS, entry);
+            }
+            return this.replace(index, replacement);
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key) {
+            int bit = bitFor(hash, shift);
+            int index = this.index(bit);
+            Object child = this.children[index];
+            if (child instanceof Node) {
+                Node smaller = ((Node) child).remove(shift + BITS, hash, key);
+                if (smaller != null) {
+                    Entry only = smaller.onlyEntry();
+                    return this.replace(index, only != null ? only : smaller);
+                }
+            }
+            if (this.bitmap == bit) {
+                return null;
+            }
+            Object[] shrunk = new Object[this.children.length - 1];
+            System.arraycopy(this.children, 0, shrunk, 0, index);
+            System.arraycopy(this.children, index + 1, shrunk, index, shrunk.length - index);
+            return new BitmapNode(this.bitmap & ~bit, shrunk);
+        }
+
+        private BitmapNode replace(int index, Object child) {
+            Object[] copy = this.children.clone();
+            copy[index] = child;
+            return new BitmapNode(this.bitmap, copy);
+        }
+
+        @Override
+        public Object[] contents() {
+            return this.children;
+        }
+
+        @Override
+        public Entry onlyEntry() {
+            return this.children.length == 1 && this.children[0] instanceof Entry
+                    ? (Entry) this.children[0]
+                    : null;
+        }
+    }
+
+    // Builds the smallest subtree holding two entries with different keys.
+    private static Node pair(int shift, Entry a, Entry b) {
+        if (a.hash == b.hash) {
+            return new CollisionNode(a.hash, new Entry[] {a, b});
+        }
+        // Distinct hashes differ in some fragment by shift 30, before shifts wrap.
+        int fragmentA = (a.hash >>> shift) & MASK;
+        int fragmentB = (b.hash >>> shift) & MASK;
+        if (fragmentA == fragmentB) {
+            return new BitmapNode(1 << fragmentA, new Object[] {pair(shift + BITS, a, b)});
+        }
+        Object[] children = fragmentA < fragmentB ? new Object[] {a, b} : new Object[] {b, a};
+        return new BitmapNode((1 << fragmentA) | (1 << fragmentB), children);
+    }
+
+    // Holds the entries whose whole hashes are equal.
+    private static class CollisionNode extends Node {
+        public final int hash;
+        public final Entry[] entries;
+
+        public CollisionNode(int hash, Entry[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < this.entries.length; i++) {
+                if (this.entries[i].matches(this.hash, key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Entry find(int shift, int hash, Object key) {
+            if (hash != this.hash) {
+                return null;
+            }
+            int index = this.indexOf(key);
+            return index < 0 ? null : this.entries[index];
+        }
+
+        @Override
+        public Node put(int shift, Entry entry) {
+            if (entry.hash != this.hash) {
+                // Only a prefix of the hashes matches: push this node one level down.
+                return new BitmapNode(bitFor(this.hash, shift), new Object[] {this}).put(shift, entry);
+            }
+            int index = this.indexOf(entry.key);
+            Entry[] copy;
+            if (index < 0) {
+                copy = new Entry[this.entries.length + 1];
+                System.arraycopy(this.entries, 0, copy, 0, this.entries.length);
+                copy[this.entries.length] = entry;
+            } else {
+                copy = this.entries.clone();
+                copy[index] = entry;
+            }
+            return new CollisionNode(this.hash, copy);
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key) {
+            if (this.entries.length == 1) {
+                return null;
+            }
+            int index = this.indexOf(key);
+            Entry[] shrunk = new Entry[this.entries.length - 1];
+            System.arraycopy(this.entries, 0, shrunk, 0, index);
+            System.arraycopy(this.entries, index + 1, shrunk, index, shrunk.length - index);
+            return new CollisionNode(this.hash, shrunk);
+        }
+
+        @Override
+        public Object[] contents() {
+            return this.entries;
+        }
+
+        @Override
+        public Entry onlyEntry() {
+            return this.entries.length == 1 ? this.entries[0] : null;
+        }
+    }
+
+    private static class TrieIterator<K, V> implements Iterator<KVPair<K, V>> {
+        // A stack of the child arrays being walked, and the next position in each.
+        private final Object[][] arrays;
+        private final int[] positions;
+        private int depth;
+        private Entry next;
+
+        public TrieIterator(Node root) {
+            this.arrays = new Object[MAX_DEPTH][];
+            this.positions = new int[MAX_DEPTH];
+            this.depth = 0;
+            if (root != null) {
+                this.push(root);
+            }
+            this.advance();
+        }
+
+        private void push(Node node) {
+            this.arrays[this.depth] = node.contents();
+            this.positions[this.depth] = 0;
+            this.depth++;
+        }
+
+        private void advance() {
+            this.next = null;
+            while (this.depth > 0) {
+                Object[] array = this.arrays[this.depth - 1];
+                int position = this.positions[this.depth - 1];
+                if (position == array.length) {
+                    this.depth--;
+                    continue;
+                }
+                this.positions[this.depth - 1]++;
+                Object child = array[position];
+                if (child instanceof Entry) {
+                    this.next = (Entry) child;
+                    return;
+                }
+                this.push((Node) child);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<K, V> pair = new KVPair<>(unmaskNull(this.next.key), (V) this.next.value);
+            this.advance();
+            return pair;
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.StructureStats;
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * An open-addressing hash dictionary that stores its keys, values and hashes in
+ * three flat, parallel arrays instead of one small dictionary object per bucket.
+ *
+ * Collisions are resolved with Robin Hood linear probing: when inserting, an entry
+ * that is further away from its ideal slot than the entry currently occupying a
+ * slot takes that slot over. This keeps probe sequences short and lets lookups stop
+ * early on a miss. Removal uses backward-shift deletion, so no tombstones are needed.
+ *
+ * @see IDictionary for details on what each method must do.
+ */
+public class ProbingHashDictionary<K, V> implements IDictionary<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    // The largest power of two an int (and an array length) can hold.
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    // Stands in for a 'null' key, since a null slot in 'keys' marks an empty slot.
+    private static final Object NULL_KEY = new Object();
+
+    // Invariants:
+    //
+    // - keys[i] == null iff slot i is empty.
+    // - If slot i is full, hashes[i] is the mixed hash of keys[i] and values[i] is its value.
+    // - Every full slot lies on the probe sequence starting at (hashes[i] & mask), and no empty
+    //   slot lies between the two.
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+    // Null unless StructureStats.ENABLED.
+    private final StructureStats stats = StructureStats.ENABLED ? new StructureStats() : null;
+
+    public ProbingHashDictionary() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a dictionary presized to hold at least the given number of
+     * pairs without resizing.
+     *
+     * @throws IllegalArgumentException  if expectedSize is negative
+     */
+    public ProbingHashDictionary(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * MAX_LOAD_FACTOR < expectedSize && capacity < MAX_CAPACITY) {
+            capacity *= 2;
+        }
+        this.allocate(capacity);
+        this.size = 0;
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+        this.resizeThreshold = (int) (capacity * MAX_LOAD_FACTOR);
+    }
+
+    private static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> K unmaskNull(Object key) {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    // Scrambles the bits of the hash code so that keys with clustered hash codes
+    // (for example, java.awt.Point) still spread out over the low bits we index with.
+    private static int mix(int hashCode) {
+        int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // Returns how far the entry stored in the given (full) slot is from its ideal slot.
+    private int probeDistance(int slot) {
+        return (slot - (this.hashes[slot] & this.mask)) & this.mask;
+    }
+
+    // Returns the slot containing the given key, or -1 if the key is absent.
+    private int findSlot(Object key) {
+        int hash = mix(key.hashCode());
+        int slot = hash & this.mask;
+        int distance = 0;
+        while (true) {
+            Object current = this.keys[slot];
+            if (current == null || this.probeDistance(slot) < distance) {
+                if (StructureStats.ENABLED) {
+                    this.stats.recordLookup(distance + 1);
+                }
+                return -1;
+            }
+            if (this.hashes[slot] == hash && current.equals(key)) {
+                if (StructureStats.ENABLED) {
+                    this.stats.recordLookup(distance + 1);
+                }
+                return slot;
+            }
+            slot = (slot + 1) & this.mask;
+            distance++;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int slot = this.findSlot(maskNull(key));
+        if (slot < 0) {
+            throw new NoSuchKeyException("No such key!");
+        }
+        return (V) this.values[slot];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(K key, V defaultValue) {
+        int slot = this.findSlot(maskNull(key));
+        return slot < 0 ? defaultValue : (V) this.values[slot];
+    }
+
+    @Override
+    public void put(K key, V value) {
+        Object masked = maskNull(key);
+        int slot = this.findSlot(masked);
+        if (slot >= 0) {
+            this.values[slot] = value;
+            return;
+        }
+        if (this.size >= this.resizeThreshold) {
+            this.resize(this.keys.length * 2);
+        }
+        this.insertAbsent(masked, mix(masked.hashCode()), value);
+        this.size++;
+    }
+
+    // Inserts a key known not to be present, displacing entries that are closer
+    // to their ideal slot than the one being inserted.
+    private void insertAbsent(Object key, int hash, Object value) {
+        int slot = hash & this.mask;
+        int distance = 0;
+        while (this.keys[slot] != null) {
+            int existingDistance = this.probeDistance(slot);
+            if (existingDistance < distance) {
+                Object tempKey = this.keys[slot];
+                Object tempValue = this.values[slot];
+                int tempHash = this.hashes[slot];
+                this.keys[slot] = key;
+                this.values[slot] = value;
+                this.hashes[slot] = hash;
+                key = tempKey;
+                value = tempValue;
+                hash = tempHash;
+                distance = existingDistance;
+            }
+            slot = (slot + 1) & this.mask;
+            distance++;
+        }
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.hashes[slot] = hash;
+    }
+
+    // Re-inserts every entry into tables of the new capacity. The stored hashes are
+    // reused, so no hashCode() or equals() calls happen while resizing.
+    private void resize(int newCapacity) {
+        long start = StructureStats.ENABLED ? System.nanoTime() : 0;
+        Object[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        int[] oldHashes = this.hashes;
+        this.allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                this.insertAbsent(oldKeys[i], oldHashes[i], oldValues[i]);
+            }
+        }
+        if (StructureStats.ENABLED) {
+            this.stats.recordResize();
+            this.stats.recordResizeTime(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        int slot = this.findSlot(maskNull(key));
+        if (slot < 0) {
+            throw new NoSuchKeyException("No such key!");
+        }
+        V out = (V) this.values[slot];
+
+        // Shift the following entries of the cluster back by one slot until we hit
+        // an empty slot or an entry that already sits in its ideal slot.
+        int next = (slot + 1) & this.mask;
+        while (this.keys[next] != null && this.probeDistance(next) != 0) {
+            this.keys[slot] = this.keys[next];
+            this.values[slot] = this.values[next];
+            this.hashes[slot] = this.hashes[next];
+            slot = next;
+            next = (next + 1) & this.mask;
+        }
+        this.keys[slot] = null;
+        this.values[slot] = null;
+        this.size--;
+        return out;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.findSlot(maskNull(key)) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the stats collected for this dictionary, or null if stats are disabled.
+     *
+     * @see StructureStats
+     */
+    public StructureStats getStats() {
+        return this.stats;
+    }
+
+    /**
+     * Returns a histogram of probe distances: entry i is the number of pairs stored
+     * i slots past their ideal slot, so a lookup of such a key examines i + 1 slots.
+     */
+    public int[] probeLengthHistogram() {
+        int longest = 0;
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null) {
+                longest = Math.max(longest, this.probeDistance(i));
+            }
+        }
+        int[] histogram = new int[longest + 1];
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null) {
+                histogram[this.probeDistance(i)]++;
+            }
+        }
+        return histogram;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new ProbingIterator<>(this.keys, this.values);
+    }
+
+    /**
+     * Splits by halving the range of slots. Only the unsplit spliterator knows its
+     * exact size; the halves estimate theirs.
+     */
+    @Override
+    public Spliterator<KVPair<K, V>> spliterator() {
+        return new SlotSpliterator<>(this.keys, this.values, 0, this.keys.length, this.size, true);
+    }
+
+    private static class SlotSpliterator<K, V> implements Spliterator<KVPair<K, V>> {
+        private final Object[] keys;
+        private final Object[] values;
+        private int slot;
+        private final int fence;
+        private long estimate;
+        private boolean exact;
+
+        public SlotSpliterator(Object[] keys, Object[] values, int origin, int fence, long estimate, boolean exact) {
+            this.keys = keys;
+            this.values = values;
+            this.slot = origin;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.exact = exact;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super KVPair<K, V>> action) {
+            while (this.slot < this.fence) {
+                Object key = this.keys[this.slot];
+                Object value = this.values[this.slot];
+                this.slot++;
+                if (key != null) {
+                    if (this.estimate > 0) {
+                        this.estimate--;
+                    }
+                    action.accept(new KVPair<>(unmaskNull(key), (V) value));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<KVPair<K, V>> trySplit() {
+            int mid = (this.slot + this.fence) >>> 1;
+            if (mid <= this.slot) {
+                return null;
+            }
+            this.estimate >>>= 1;
+            this.exact = false;
+            Spliterator<KVPair<K, V>> prefix =
+                    new SlotSpliterator<>(this.keys, this.values, this.slot, mid, this.estimate, false);
+            this.slot = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return (this.exact ? Spliterator.SIZED : 0) | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+    }
+
+    private static class ProbingIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private Object[] keys;
+        private Object[] values;
+        private int slot;
+
+        public ProbingIterator(Object[] keys, Object[] values) {
+            this.keys = keys;
+            this.values = values;
+            this.slot = 0;
+            this.skipEmpty();
+        }
+
+        private void skipEmpty() {
+            while (this.slot < this.keys.length && this.keys[this.slot] == null) {
+                this.slot++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.slot < this.keys.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<K, V> pair = new KVPair<>(unmaskNull(this.keys[this.slot]), (V) this.values[this.slot]);
+            this.slot++;
+            this.skipEmpty();
+            return pair;
+        }
+    }
+}
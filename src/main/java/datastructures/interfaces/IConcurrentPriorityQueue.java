@@ -0,0 +1,40 @@
+package datastructures.interfaces;
+
+/**
+ * Represents a priority queue that many threads may use at the same time.
+ *
+ * Implementations are allowed to be "relaxed": tryRemoveMin returns an element
+ * that is close to the smallest one, but not necessarily the smallest. Callers
+ * such as parallel graph searches must tolerate elements arriving slightly out
+ * of order.
+ *
+ * Because other threads may insert or remove at any moment, there is no separate
+ * peek; removal reports an empty queue by returning null instead of throwing.
+ */
+public interface IConcurrentPriorityQueue<T extends Comparable<T>> {
+    /**
+     * Inserts the given item into the queue.
+     *
+     * @throws IllegalArgumentException  if the item is null
+     */
+    void insert(T item);
+
+    /**
+     * Removes and returns one of the smallest elements in the queue, or returns
+     * null if the queue was empty when this method looked.
+     */
+    T tryRemoveMin();
+
+    /**
+     * Returns the number of elements in this queue. While other threads are
+     * inserting or removing, this is only a snapshot.
+     */
+    int size();
+
+    /**
+     * Returns 'true' if this queue is empty, and false otherwise.
+     */
+    default boolean isEmpty() {
+        return this.size() == 0;
+    }
+}
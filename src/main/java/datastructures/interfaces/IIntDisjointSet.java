@@ -0,0 +1,42 @@
+package datastructures.interfaces;
+
+/**
+ * Represents a collection of non-overlapping (disjoint) sets over the dense ids
+ * 0 through size() - 1.
+ *
+ * This is the primitive counterpart of IDisjointSet, for callers (such as graph
+ * algorithms) that have already numbered their items and would otherwise pay for
+ * a dictionary lookup on every findSet and union.
+ */
+public interface IIntDisjointSet {
+    /**
+     * Returns the number of ids in this disjoint set.
+     */
+    int size();
+
+    /**
+     * Returns the representative of the set containing the given id.
+     *
+     * @throws IllegalArgumentException  if id is not in [0, size())
+     */
+    int findSet(int id);
+
+    /**
+     * Combines the sets containing the two given ids. Does nothing if both ids are
+     * already in the same set.
+     *
+     * Returns 'true' if two different sets were merged, and false otherwise.
+     *
+     * @throws IllegalArgumentException  if either id is not in [0, size())
+     */
+    boolean union(int id1, int id2);
+
+    /**
+     * Returns 'true' if the two given ids are in the same set.
+     *
+     * @throws IllegalArgumentException  if either id is not in [0, size())
+     */
+    default boolean connected(int id1, int id2) {
+        return this.findSet(id1) == this.findSet(id2);
+    }
+}
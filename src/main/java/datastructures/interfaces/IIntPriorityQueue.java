@@ -0,0 +1,58 @@
+package datastructures.interfaces;
+
+import misc.exceptions.EmptyContainerException;
+
+/**
+ * Represents a priority queue of int values (typically dense vertex ids), where
+ * each value is ordered by a numeric key and the front value is always the one
+ * with the smallest key.
+ *
+ * This is the primitive counterpart of IPriorityQueue, meant for graph searches
+ * that would otherwise box a key and an id into an object per queue entry.
+ */
+public interface IIntPriorityQueue {
+    /**
+     * Inserts the given value with the given key.
+     *
+     * @throws IllegalArgumentException  if the value or key is not accepted by this queue
+     */
+    void insert(int value, double key);
+
+    /**
+     * Records that the given value should now be ordered by the (smaller) given key,
+     * inserting it if it is not queued yet.
+     *
+     * Queues without a real decrease-key operation may implement this by inserting
+     * a second entry for the value. In that case the stale entry is still returned
+     * by removeMin later on, and callers must be prepared to skip it.
+     *
+     * @throws IllegalArgumentException  if the value or key is not accepted by this queue
+     */
+    void insertOrDecreaseKey(int value, double key);
+
+    /**
+     * Removes and returns the value with the smallest key.
+     *
+     * @throws EmptyContainerException  if the queue is empty
+     */
+    int removeMin();
+
+    /**
+     * Returns the smallest key in the queue.
+     *
+     * @throws EmptyContainerException  if the queue is empty
+     */
+    double peekMinKey();
+
+    /**
+     * Returns the number of entries contained within this queue.
+     */
+    int size();
+
+    /**
+     * Returns 'true' if this queue is empty, and false otherwise.
+     */
+    default boolean isEmpty() {
+        return this.size() == 0;
+    }
+}
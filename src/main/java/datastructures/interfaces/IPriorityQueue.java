@@ -36,6 +36,61 @@ public interface IPriorityQueue<T extends Comparable<T>> {
      */
     void insert(T item);
 
+    /**
+     * Inserts every item in the given collection into the queue.
+     *
+     * Implementations may override this with something faster than inserting
+     * the items one at a time.
+     *
+     * @throws IllegalArgumentException  if items is null or contains null
+     */
+    default void insertAll(Iterable<T> items) {
+        if (items == null) {
+            throw new IllegalArgumentException();
+        }
+        for (T item : items) {
+            this.insert(item);
+        }
+    }
+
+    /**
+     * Removes and returns the smallest element in the queue, and inserts the
+     * given item in its place.
+     *
+     * This is equivalent to calling removeMin() followed by insert(item), but
+     * implementations may do both in a single pass.
+     *
+     * @throws IllegalArgumentException  if the item is null
+     * @throws EmptyContainerException   if the queue is empty
+     */
+    default T replaceMin(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        T min = this.removeMin();
+        this.insert(item);
+        return min;
+    }
+
+    /**
+     * Inserts the given item, then removes and returns the smallest element in
+     * the queue.
+     *
+     * If the item is no larger than the current smallest element (or the queue
+     * is empty), the item itself is returned and the queue is left unchanged.
+     *
+     * @throws IllegalArgumentException  if the item is null
+     */
+    default T pushPop(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        if (this.isEmpty() || item.compareTo(this.peekMin()) <= 0) {
+            return item;
+        }
+        return this.replaceMin(item);
+    }
+
     /**
      * Returns the number of elements contained within this queue.
      */
@@ -2,6 +2,10 @@ package datastructures.interfaces;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a data structure that contains a unique collection of items.
@@ -42,4 +46,162 @@ public interface ISet<T> extends Iterable<T> {
      * Returns all items contained within this set.
      */
     public Iterator<T> iterator();
+
+    /**
+     * Returns a DISTINCT and SIZED spliterator over this set. The default splits off
+     * batches copied from iterator(); hash-based sets split by bucket range.
+     *
+     * The set must not be changed while the spliterator is in use.
+     */
+    @Override
+    public default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(this.iterator(), this.size(), Spliterator.DISTINCT);
+    }
+
+    /**
+     * Returns a sequential stream over the items of this set.
+     */
+    public default Stream<T> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over the items of this set.
+     */
+    public default Stream<T> parallelStream() {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
+
+    /**
+     * Adds every item of 'other' to this set.
+     *
+     * @throws IllegalArgumentException  if other is null
+     */
+    public default void addAll(ISet<T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException();
+        }
+        if (other == this) {
+            return;
+        }
+        for (T item : other) {
+            this.add(item);
+        }
+    }
+
+    /**
+     * Removes every item of 'other' from this set. Items of 'other' that are not
+     * in this set are ignored.
+     *
+     * Walks whichever of the two sets is smaller.
+     *
+     * @throws IllegalArgumentException  if other is null
+     */
+    @SuppressWarnings("unchecked")
+    public default void removeAll(ISet<T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException();
+        }
+        if (other.size() <= this.size() && other != this) {
+            for (T item : other) {
+                if (this.contains(item)) {
+                    this.remove(item);
+                }
+            }
+            return;
+        }
+        // Items can't be removed while iterating, so collect them first.
+        T[] doomed = (T[]) new Object[this.size()];
+        int count = 0;
+        for (T item : this) {
+            if (other.contains(item)) {
+                doomed[count] = item;
+                count++;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            this.remove(doomed[i]);
+        }
+    }
+
+    /**
+     * Removes every item of this set that is not also in 'other'.
+     *
+     * @throws IllegalArgumentException  if other is null
+     */
+    @SuppressWarnings("unchecked")
+    public default void retainAll(ISet<T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException();
+        }
+        if (other == this) {
+            return;
+        }
+        T[] doomed = (T[]) new Object[this.size()];
+        int count = 0;
+        for (T item : this) {
+            if (!other.contains(item)) {
+                doomed[count] = item;
+                count++;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            this.remove(doomed[i]);
+        }
+    }
+
+    /**
+     * Adds every item of 'a' that is not in 'b' to this set.
+     *
+     * Neither 'a' nor 'b' may be this set; see ISet.difference for the in-place case.
+     *
+     * @throws IllegalArgumentException  if a or b is null
+     */
+    public default void addDifference(ISet<T> a, ISet<T> b) {
+        if (a == null || b == null) {
+            throw new IllegalArgumentException();
+        }
+        for (T item : a) {
+            if (!b.contains(item)) {
+                this.add(item);
+            }
+        }
+    }
+
+    /**
+     * Adds the items of 'a' that are not in 'b' to 'out', and returns 'out'.
+     *
+     * 'out' may be 'a', in which case 'a' is changed in place; otherwise it is
+     * usually a new, empty set. Implementations speed this up where they can, for
+     * example IndexedBitSet when all three sets share a universe.
+     *
+     * @throws IllegalArgumentException  if any argument is null, or if out is b but not a
+     */
+    public static <T> ISet<T> difference(ISet<T> a, ISet<T> b, ISet<T> out) {
+        if (a == null || b == null || out == null || (out == b && out != a)) {
+            throw new IllegalArgumentException();
+        }
+        if (out == a) {
+            a.removeAll(b);
+        } else {
+            out.addDifference(a, b);
+        }
+        return out;
+    }
+
+    /**
+     * Adds the items of 'a' and of 'b' to 'out', and returns 'out'.
+     *
+     * 'out' may be 'a' or 'b', in which case only the other set is walked.
+     *
+     * @throws IllegalArgumentException  if any argument is null
+     */
+    public static <T> ISet<T> union(ISet<T> a, ISet<T> b, ISet<T> out) {
+        if (a == null || b == null || out == null) {
+            throw new IllegalArgumentException();
+        }
+        out.addAll(a);
+        out.addAll(b);
+        return out;
+    }
 }
@@ -1,5 +1,6 @@
 package mazes.entities;
 
+import datastructures.concrete.IndexedBitSet;
 import datastructures.interfaces.ISet;
 
 import java.awt.*;
@@ -11,6 +12,8 @@ public class Maze {
     private ISet<Room> rooms;
     private ISet<Wall> walls;
     private ISet<Wall> untouchableWalls;
+    // Built on first use by getWallUniverse().
+    private IndexedBitSet.Universe<Wall> wallUniverse;
 
     public Maze(ISet<Room> rooms, ISet<Wall> walls, ISet<Wall> untouchableWalls) {
         this.rooms = rooms;
@@ -32,6 +35,20 @@ public class Maze {
         return this.walls;
     }
 
+    /**
+     * Returns a universe numbering every wall in getWalls(). It is built on the
+     * first call and shared by every later one, so IndexedBitSets of this maze's
+     * walls cost one bit per wall rather than a universe each. It is sealed, so
+     * sets over it only ever hold this maze's walls.
+     */
+    public IndexedBitSet.Universe<Wall> getWallUniverse() {
+        if (this.wallUniverse == null) {
+            this.wallUniverse = new IndexedBitSet.Universe<>(this.walls);
+            this.wallUniverse.seal();
+        }
+        return this.wallUniverse;
+    }
+
     /**
      * Returns the set of all unremovable walls between rooms.
      *
@@ -1,6 +1,7 @@
 package mazes.generators.base;
 
 import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.PersistentHashSet;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.ISet;
 import mazes.entities.Maze;
@@ -74,7 +75,7 @@ public class GridGenerator extends BaseMazeGenerator {
     }
 
     private ISet<Wall> extractWalls(Room[][] grid) {
-        ISet<Wall> walls = new ChainedHashSet<>();
+        ISet<Wall> walls = new PersistentHashSet<>();
 
         for (int x = 0; x < this.numColumns; x++) {
             for (int y = 0; y < this.numRows; y++) {
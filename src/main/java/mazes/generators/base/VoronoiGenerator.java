@@ -2,6 +2,7 @@ package mazes.generators.base;
 
 import datastructures.concrete.ChainedHashSet;
 import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.PersistentHashSet;
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
@@ -68,7 +69,7 @@ public class VoronoiGenerator extends BaseMazeGenerator {
         }
 
         // Convert sites into walls; build edges
-        ISet<Wall> walls = new ChainedHashSet<>();
+        ISet<Wall> walls = new PersistentHashSet<>();
         ISet<Wall> untouchableWalls = new ChainedHashSet<>();
         IDictionary<LineSegment, Point> edgeToPoints = new ChainedHashDictionary<>();
         for (Room room : rooms) {
@@ -6,7 +6,7 @@ import mazes.entities.Maze;
 import mazes.entities.Room;
 import mazes.entities.Wall;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Carves out a maze based on Kruskal's algorithm.
@@ -22,15 +22,11 @@ public class KruskalMazeCarver implements MazeCarver {
         // call 'wall.resetDistanceToOriginal()' on the same wall before returning.
         ISet<Wall> walls = maze.getWalls();
         ISet<Room> vertices = maze.getRooms();
-        Random rand = new Random();
-        for (Wall singleWall : walls) {
-            singleWall.setDistance(rand.nextDouble());
-        }
+        // Each wall is only touched by one thread, so both passes can run in parallel.
+        walls.parallelStream().forEach(wall -> wall.setDistance(ThreadLocalRandom.current().nextDouble()));
         Graph<Room, Wall> newMaze = new Graph(vertices, walls);
         ISet<Wall> mst = newMaze.findMinimumSpanningTree();
-        for (Wall singleWall : walls) {
-            singleWall.resetDistanceToOriginal();
-        }
+        walls.parallelStream().forEach(Wall::resetDistanceToOriginal);
         return mst;
     }
 }
@@ -1,6 +1,6 @@
 package mazes.generators.maze;
 
-import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.PersistentHashSet;
 import datastructures.interfaces.ISet;
 import mazes.entities.Maze;
 import mazes.entities.Wall;
@@ -30,12 +30,10 @@ public interface MazeCarver {
 
         ISet<Wall> toRemove = this.returnWallsToRemove(initialMaze);
 
-        ISet<Wall> newWalls = new ChainedHashSet<>();
-        for (Wall wall : initialMaze.getWalls()) {
-            if (!toRemove.contains(wall)) {
-                newWalls.add(wall);
-            }
-        }
+        // Starts from an O(1) copy of the base walls when they are persistent, so the
+        // carved maze shares every part of the wall trie the removals did not touch.
+        PersistentHashSet<Wall> newWalls = PersistentHashSet.copyOf(initialMaze.getWalls());
+        newWalls.removeAll(toRemove);
 
         return new Maze(initialMaze.getRooms(), newWalls, initialMaze.getUntouchableWalls());
     }
@@ -1,6 +1,6 @@
 package mazes.generators.maze;
 
-import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.IndexedBitSet;
 import datastructures.interfaces.ISet;
 import mazes.entities.Maze;
 import mazes.entities.Wall;
@@ -21,10 +21,13 @@ public class RandomMazeCarver implements MazeCarver {
     public ISet<Wall> returnWallsToRemove(Maze maze) {
         Random rand = new Random();
 
-        ISet<Wall> toRemove = new ChainedHashSet<>();
-        for (Wall wall : maze.getWalls()) {
+        // The maze's shared universe numbers every wall, so the loop below can set
+        // bits by index without looking each wall up again.
+        IndexedBitSet.Universe<Wall> walls = maze.getWallUniverse();
+        IndexedBitSet<Wall> toRemove = new IndexedBitSet<>(walls);
+        for (int index = 0; index < walls.size(); index++) {
             if (rand.nextDouble() >= this.probabilityOfKeepingEdge) {
-                toRemove.add(wall);
+                toRemove.addIndex(index);
             }
         }
         return toRemove;
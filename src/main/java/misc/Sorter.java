@@ -1,11 +1,28 @@
 package misc;
 
 import datastructures.concrete.ArrayHeap;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.DynamicArrayList;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.IPriorityQueue;
 
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+
 public class Sorter {
+    // Ranges at most this long are sorted (and merged) by a single task.
+    private static final int SEQUENTIAL_CUTOFF = 8192;
+    // Ranges at most this long are insertion sorted.
+    private static final int INSERTION_CUTOFF = 32;
+    // parallelTopKSort switches to quickselect once k is at least 1/8 of the input.
+    private static final int QUICKSELECT_FRACTION = 8;
+    // radixSort looks at one byte of the 64-bit key per pass.
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+
     /**
      * This method takes the input list and returns the top k elements
      * in sorted order.
@@ -36,33 +53,477 @@ public class Sorter {
         if (input == null || k < 0) {
             throw new IllegalArgumentException();
         }
-        IPriorityQueue<T> heap = new ArrayHeap<>();
-        IList<T> result = new DoubleLinkedList<>();
+        DynamicArrayList<T> result = new DynamicArrayList<>(Math.min(k, input.size()));
         if (k == 0) {
             return result;
         }
-        if (k > input.size()) {
-            for (int i = 0; i < input.size(); i++) {
-                heap.insert(input.get(i));
+        IPriorityQueue<T> heap;
+        if (k >= input.size()) {
+            heap = new ArrayHeap<>(input);
+        } else {
+            // Heapify the first k items in one go, then let every larger item
+            // take the place of the current minimum.
+            Iterator<T> iter = input.iterator();
+            IList<T> firstK = new DynamicArrayList<>(k);
+            for (int i = 0; i < k; i++) {
+                firstK.add(iter.next());
             }
-            for (int i = 0; i < input.size(); i++) {
-                result.add(heap.removeMin());
+            heap = new ArrayHeap<>(firstK);
+            while (iter.hasNext()) {
+                T item = iter.next();
+                if (item.compareTo(heap.peekMin()) > 0) {
+                    heap.replaceMin(item);
+                }
             }
-        } else {
-            for (T item: input) {
-                if (heap.size() < k) {
-                    heap.insert(item);
+        }
+        while (!heap.isEmpty()) {
+            result.add(heap.removeMin());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new list holding every element of the input list in ascending
+     * order. Equal elements keep their relative order.
+     *
+     * Sorts with a fork-join merge sort: ranges are split in half until they are
+     * short enough to sort on one thread, and long runs are merged in parallel
+     * too. Runs in the common fork-join pool, or in the calling task's pool when
+     * called from inside one.
+     *
+     * This method must not modify the input list.
+     *
+     * @throws IllegalArgumentException  if input is null
+     */
+    public static <T extends Comparable<T>> IList<T> parallelSort(IList<T> input) {
+        if (input == null) {
+            throw new IllegalArgumentException();
+        }
+        T[] array = toArray(input);
+        sort(array);
+        return toList(array, 0, array.length);
+    }
+
+    /**
+     * Returns the top k elements of the input list in ascending order, like
+     * topKSort, but spread over the fork-join pool.
+     *
+     * When k is small next to the input, the input is cut into ranges and every
+     * task keeps its own heap of at most k elements; neighbouring tasks then merge
+     * their heaps. When k is a large fraction of the input, a quickselect moves the
+     * k largest elements to the end of a copy of the input, and only those are sorted.
+     *
+     * This method must not modify the input list.
+     *
+     * @throws IllegalArgumentException  if k < 0
+     * @throws IllegalArgumentException  if input is null
+     */
+    public static <T extends Comparable<T>> IList<T> parallelTopKSort(int k, IList<T> input) {
+        if (input == null || k < 0) {
+            throw new IllegalArgumentException();
+        }
+        T[] array = toArray(input);
+        int n = array.length;
+        if (k >= n) {
+            sort(array);
+            return toList(array, 0, n);
+        }
+        if (k == 0) {
+            return new DynamicArrayList<>(0);
+        }
+        if ((long) k * QUICKSELECT_FRACTION >= n) {
+            select(array, n - k);
+            T[] top = copyRange(array, n - k, n);
+            sort(top);
+            return toList(top, 0, k);
+        }
+        // Every task's heap costs about k * log(leaf / k) replacements on top of the
+        // scan, so use one leaf per worker thread (a single leaf in a one-thread pool
+        // is just topKSort), and keep leaves much larger than k.
+        ForkJoinPool pool = ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool() : ForkJoinPool.commonPool();
+        int leaves = pool.getParallelism();
+        int leafSize = Math.max(Math.max(SEQUENTIAL_CUTOFF, 16 * k), (n + leaves - 1) / leaves);
+        IPriorityQueue<T> heap = new TopKTask<>(array, 0, n, k, leafSize).invoke();
+        DynamicArrayList<T> result = new DynamicArrayList<>(k);
+        while (!heap.isEmpty()) {
+            result.add(heap.removeMin());
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> T[] toArray(IList<T> input) {
+        T[] array = (T[]) new Comparable[input.size()];
+        int index = 0;
+        for (T item : input) {
+            array[index] = item;
+            index++;
+        }
+        return array;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> T[] copyRange(T[] array, int lo, int hi) {
+        T[] out = (T[]) new Comparable[hi - lo];
+        System.arraycopy(array, lo, out, 0, hi - lo);
+        return out;
+    }
+
+    private static <T> IList<T> toList(T[] array, int lo, int hi) {
+        DynamicArrayList<T> result = new DynamicArrayList<>(hi - lo);
+        for (int i = lo; i < hi; i++) {
+            result.add(array[i]);
+        }
+        return result;
+    }
+
+    // Rearranges the array so that array[target] holds the element that belongs there
+    // in sorted order, with nothing larger before it and nothing smaller after it.
+    // Uses random pivots and three-way partitioning, so runs of equal elements are
+    // settled in one pass.
+    private static <T extends Comparable<T>> void select(T[] array, int target) {
+        int lo = 0;
+        int hi = array.length - 1;
+        while (lo < hi) {
+            T pivot = array[lo + ThreadLocalRandom.current().nextInt(hi - lo + 1)];
+            int lt = lo;
+            int i = lo;
+            int gt = hi;
+            while (i <= gt) {
+                int cmp = array[i].compareTo(pivot);
+                if (cmp < 0) {
+                    swap(array, lt, i);
+                    lt++;
+                    i++;
+                } else if (cmp > 0) {
+                    swap(array, i, gt);
+                    gt--;
                 } else {
-                    if (item.compareTo(heap.peekMin()) > 0) {
-                        heap.removeMin();
-                        heap.insert(item);
+                    i++;
+                }
+            }
+            if (target < lt) {
+                hi = lt - 1;
+            } else if (target > gt) {
+                lo = gt + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static <T> void swap(T[] array, int i, int j) {
+        T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Sorts the given array in place in ascending order, the same way parallelSort
+     * does. Equal elements keep their relative order.
+     *
+     * @throws IllegalArgumentException  if array is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<T>> void sort(T[] array) {
+        if (array == null) {
+            throw new IllegalArgumentException();
+        }
+        if (array.length <= SEQUENTIAL_CUTOFF) {
+            sequentialSort(array, (T[]) new Comparable[array.length], 0, array.length);
+        } else {
+            new MergeSortTask<>(array, (T[]) new Comparable[array.length], 0, array.length).invoke();
+        }
+    }
+
+    /**
+     * Sorts 'indices' in place so that keys[indices[0]], keys[indices[1]], ... are in
+     * ascending order. Indices with equal keys keep their relative order, and keys
+     * are ordered like Double.compare: -0.0 before 0.0, and NaN after everything.
+     *
+     * This is an LSD radix sort: each double is turned into a long whose unsigned
+     * order matches the double's order, and those are sorted a byte at a time in at
+     * most 8 linear passes, without a single comparison. Passes where every key has
+     * the same byte (often the exponent bytes) are skipped.
+     *
+     * @throws IllegalArgumentException   if indices or keys is null
+     * @throws IndexOutOfBoundsException  if an index is outside of keys
+     */
+    public static void radixSort(int[] indices, double[] keys) {
+        if (indices == null || keys == null) {
+            throw new IllegalArgumentException();
+        }
+        int n = indices.length;
+        long[] sortKeys = new long[n];
+        // One pass builds the histograms for every digit.
+        int[][] counts = new int[Long.SIZE / RADIX_BITS][RADIX];
+        for (int i = 0; i < n; i++) {
+            long key = sortableBits(keys[indices[i]]);
+            sortKeys[i] = key;
+            for (int digit = 0; digit < counts.length; digit++) {
+                counts[digit][(int) (key >>> (digit * RADIX_BITS)) & (RADIX - 1)]++;
+            }
+        }
+
+        long[] srcKeys = sortKeys;
+        int[] srcIndices = indices;
+        long[] destKeys = new long[n];
+        int[] destIndices = new int[n];
+        for (int digit = 0; digit < counts.length; digit++) {
+            int[] count = counts[digit];
+            int shift = digit * RADIX_BITS;
+            if (n == 0 || count[(int) (srcKeys[0] >>> shift) & (RADIX - 1)] == n) {
+                continue;
+            }
+            // Turn the counts into the position where each bucket starts.
+            int start = 0;
+            for (int b = 0; b < RADIX; b++) {
+                int size = count[b];
+                count[b] = start;
+                start += size;
+            }
+            for (int i = 0; i < n; i++) {
+                int b = (int) (srcKeys[i] >>> shift) & (RADIX - 1);
+                int position = count[b];
+                count[b] = position + 1;
+                destKeys[position] = srcKeys[i];
+                destIndices[position] = srcIndices[i];
+            }
+            long[] tempKeys = srcKeys;
+            srcKeys = destKeys;
+            destKeys = tempKeys;
+            int[] tempIndices = srcIndices;
+            srcIndices = destIndices;
+            destIndices = tempIndices;
+        }
+        if (srcIndices != indices) {
+            System.arraycopy(srcIndices, 0, indices, 0, n);
+        }
+    }
+
+    /**
+     * Returns the indices 0 through keys.length - 1, ordered so that their keys are
+     * ascending. See radixSort(int[], double[]).
+     *
+     * @throws IllegalArgumentException  if keys is null
+     */
+    public static int[] radixSortIndices(double[] keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException();
+        }
+        int[] indices = new int[keys.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        radixSort(indices, keys);
+        return indices;
+    }
+
+    // Maps a double to a long whose unsigned order is the double's order: negative
+    // numbers have every bit flipped (larger magnitudes become smaller), and
+    // non-negative ones just the sign bit. doubleToLongBits folds every NaN into
+    // one positive NaN, which then lands after positive infinity.
+    private static long sortableBits(double key) {
+        long bits = Double.doubleToLongBits(key);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    // Sorts array[lo, hi) using buffer[lo, hi) as scratch space.
+    private static <T extends Comparable<T>> void sequentialSort(T[] array, T[] buffer, int lo, int hi) {
+        if (hi - lo <= INSERTION_CUTOFF) {
+            insertionSort(array, lo, hi);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        sequentialSort(array, buffer, lo, mid);
+        sequentialSort(array, buffer, mid, hi);
+        if (array[mid - 1].compareTo(array[mid]) <= 0) {
+            return;
+        }
+        System.arraycopy(array, lo, buffer, lo, hi - lo);
+        merge(buffer, lo, mid, mid, hi, array, lo);
+    }
+
+    private static <T extends Comparable<T>> void insertionSort(T[] array, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            T item = array[i];
+            int j = i;
+            while (j > lo && array[j - 1].compareTo(item) > 0) {
+                array[j] = array[j - 1];
+                j--;
+            }
+            array[j] = item;
+        }
+    }
+
+    // Merges the sorted runs src[lo1, hi1) and src[lo2, hi2) into dest, starting at
+    // destLo. On ties the element from the first run goes first.
+    private static <T extends Comparable<T>> void merge(T[] src, int lo1, int hi1, int lo2, int hi2,
+                                                        T[] dest, int destLo) {
+        int i = lo1;
+        int j = lo2;
+        int k = destLo;
+        while (i < hi1 && j < hi2) {
+            if (src[j].compareTo(src[i]) < 0) {
+                dest[k] = src[j];
+                j++;
+            } else {
+                dest[k] = src[i];
+                i++;
+            }
+            k++;
+        }
+        System.arraycopy(src, i, dest, k, hi1 - i);
+        System.arraycopy(src, j, dest, k + hi1 - i, hi2 - j);
+    }
+
+    // Returns the first index in src[lo, hi) whose element is >= key (or > key, if
+    // 'strict' is set), or hi if there is none.
+    private static <T extends Comparable<T>> int search(T[] src, int lo, int hi, T key, boolean strict) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = src[mid].compareTo(key);
+            if (cmp < 0 || (strict && cmp == 0)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // Returns a heap holding the k largest elements of array[lo, hi).
+    private static class TopKTask<T extends Comparable<T>> extends RecursiveTask<IPriorityQueue<T>> {
+        private final T[] array;
+        private final int lo;
+        private final int hi;
+        private final int k;
+        private final int leafSize;
+
+        public TopKTask(T[] array, int lo, int hi, int k, int leafSize) {
+            this.array = array;
+            this.lo = lo;
+            this.hi = hi;
+            this.k = k;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected IPriorityQueue<T> compute() {
+            if (this.hi - this.lo <= this.leafSize) {
+                // Same as topKSort: heapify the first k, then replace the minimum.
+                int stop = Math.min(this.hi, this.lo + this.k);
+                IList<T> firstK = new DynamicArrayList<>(stop - this.lo);
+                for (int i = this.lo; i < stop; i++) {
+                    firstK.add(this.array[i]);
+                }
+                IPriorityQueue<T> heap = new ArrayHeap<>(firstK);
+                for (int i = stop; i < this.hi; i++) {
+                    if (this.array[i].compareTo(heap.peekMin()) > 0) {
+                        heap.replaceMin(this.array[i]);
                     }
                 }
+                return heap;
             }
-            for (int i = 0; i < k; i++) {
-                result.add(heap.removeMin());
+            int mid = (this.lo + this.hi) >>> 1;
+            TopKTask<T> left = new TopKTask<>(this.array, this.lo, mid, this.k, this.leafSize);
+            left.fork();
+            IPriorityQueue<T> heap = new TopKTask<>(this.array, mid, this.hi, this.k, this.leafSize).compute();
+            IPriorityQueue<T> other = left.join();
+            if (other.size() > heap.size()) {
+                IPriorityQueue<T> temp = heap;
+                heap = other;
+                other = temp;
             }
+            // Pour the smaller heap into the larger one, keeping at most k elements.
+            while (!other.isEmpty()) {
+                T item = other.removeMin();
+                if (heap.size() < this.k) {
+                    heap.insert(item);
+                } else if (item.compareTo(heap.peekMin()) > 0) {
+                    heap.replaceMin(item);
+                }
+            }
+            return heap;
+        }
+    }
+
+    private static class MergeSortTask<T extends Comparable<T>> extends RecursiveAction {
+        private final T[] array;
+        private final T[] buffer;
+        private final int lo;
+        private final int hi;
+
+        public MergeSortTask(T[] array, T[] buffer, int lo, int hi) {
+            this.array = array;
+            this.buffer = buffer;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.hi - this.lo <= SEQUENTIAL_CUTOFF) {
+                sequentialSort(this.array, this.buffer, this.lo, this.hi);
+                return;
+            }
+            int mid = (this.lo + this.hi) >>> 1;
+            ForkJoinTask.invokeAll(
+                    new MergeSortTask<>(this.array, this.buffer, this.lo, mid),
+                    new MergeSortTask<>(this.array, this.buffer, mid, this.hi));
+            if (this.array[mid - 1].compareTo(this.array[mid]) <= 0) {
+                return;
+            }
+            System.arraycopy(this.array, this.lo, this.buffer, this.lo, this.hi - this.lo);
+            new MergeTask<>(this.buffer, this.lo, mid, mid, this.hi, this.array, this.lo).compute();
+        }
+    }
+
+    // Merges two sorted runs by splitting the longer one at its middle element,
+    // finding where that element belongs in the other run, and merging the two
+    // halves independently.
+    private static class MergeTask<T extends Comparable<T>> extends RecursiveAction {
+        private final T[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final T[] dest;
+        private final int destLo;
+
+        public MergeTask(T[] src, int lo1, int hi1, int lo2, int hi2, T[] dest, int destLo) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dest = dest;
+            this.destLo = destLo;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = this.hi1 - this.lo1;
+            int length2 = this.hi2 - this.lo2;
+            if (length1 + length2 <= SEQUENTIAL_CUTOFF) {
+                merge(this.src, this.lo1, this.hi1, this.lo2, this.hi2, this.dest, this.destLo);
+                return;
+            }
+            // To stay stable, elements of the first run that equal the pivot must end
+            // up before it when the pivot comes from the second run, and vice versa.
+            int split1;
+            int split2;
+            if (length1 >= length2) {
+                split1 = (this.lo1 + this.hi1) >>> 1;
+                split2 = search(this.src, this.lo2, this.hi2, this.src[split1], false);
+            } else {
+                split2 = (this.lo2 + this.hi2) >>> 1;
+                split1 = search(this.src, this.lo1, this.hi1, this.src[split2], true);
+            }
+            int destSplit = this.destLo + (split1 - this.lo1) + (split2 - this.lo2);
+            ForkJoinTask.invokeAll(
+                    new MergeTask<>(this.src, this.lo1, split1, this.lo2, split2, this.dest, this.destLo),
+                    new MergeTask<>(this.src, split1, this.hi1, split2, this.hi2, this.dest, destSplit));
         }
-        return result;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,151 @@
+package misc;
+
+import datastructures.concrete.ArrayHeap;
+import datastructures.concrete.DynamicArrayList;
+import datastructures.interfaces.IList;
+import datastructures.interfaces.IPriorityQueue;
+
+import java.util.Iterator;
+import java.util.stream.Collector;
+
+/**
+ * Keeps the k largest items out of a stream of items that is never stored in full,
+ * in O(k) memory. Items can be offered one at a time, from an Iterator or Iterable,
+ * or through the java.util.stream Collector returned by collector(k).
+ *
+ * snapshot() can be called at any point to see the current top k, so a ranking can
+ * be reported while the input is still arriving.
+ *
+ * Like Sorter.topKSort, results are in ascending order: the smallest of the top k
+ * comes first.
+ */
+public class TopKCollector<T extends Comparable<T>> {
+    private final int k;
+    // Holds the current top k; its minimum is the item the next larger one replaces.
+    private IPriorityQueue<T> heap;
+    private long count;
+
+    /**
+     * Creates a collector that keeps the k largest items offered to it.
+     *
+     * @throws IllegalArgumentException  if k < 0
+     */
+    public TopKCollector(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.k = k;
+        this.heap = new ArrayHeap<>();
+        this.count = 0;
+    }
+
+    /**
+     * Returns a Collector that gathers the k largest items of a stream into a list,
+     * in ascending order. It may be used with parallel streams.
+     *
+     * @throws IllegalArgumentException  if k < 0
+     */
+    public static <T extends Comparable<T>> Collector<T, ?, IList<T>> collector(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException();
+        }
+        return Collector.of(
+                () -> new TopKCollector<T>(k),
+                TopKCollector::offer,
+                TopKCollector::merge,
+                TopKCollector::snapshot,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Offers one item, which is kept if it is among the k largest seen so far.
+     *
+     * @throws IllegalArgumentException  if item is null
+     */
+    public void offer(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        this.count++;
+        if (this.heap.size() < this.k) {
+            this.heap.insert(item);
+        } else if (this.k > 0 && item.compareTo(this.heap.peekMin()) > 0) {
+            this.heap.replaceMin(item);
+        }
+    }
+
+    /**
+     * Offers every item the iterator has left.
+     *
+     * @throws IllegalArgumentException  if items is null or returns null
+     */
+    public void offerAll(Iterator<T> items) {
+        if (items == null) {
+            throw new IllegalArgumentException();
+        }
+        while (items.hasNext()) {
+            this.offer(items.next());
+        }
+    }
+
+    /**
+     * Offers every item of the given iterable.
+     *
+     * @throws IllegalArgumentException  if items is null or contains null
+     */
+    public void offerAll(Iterable<T> items) {
+        if (items == null) {
+            throw new IllegalArgumentException();
+        }
+        this.offerAll(items.iterator());
+    }
+
+    /**
+     * Offers everything 'other' has kept to this collector, and returns this collector.
+     * 'other' is left empty.
+     *
+     * @throws IllegalArgumentException  if other is null or is this collector
+     */
+    public TopKCollector<T> merge(TopKCollector<T> other) {
+        if (other == null || other == this) {
+            throw new IllegalArgumentException();
+        }
+        long seen = this.count + other.count;
+        while (!other.heap.isEmpty()) {
+            this.offer(other.heap.removeMin());
+        }
+        this.count = seen;
+        other.count = 0;
+        return this;
+    }
+
+    /**
+     * Returns the number of items offered so far.
+     */
+    public long count() {
+        return this.count;
+    }
+
+    /**
+     * Returns the number of items currently kept: the smaller of k and count().
+     */
+    public int size() {
+        return this.heap.size();
+    }
+
+    /**
+     * Returns the current top k in ascending order. Items can still be offered
+     * afterwards.
+     *
+     * Takes O(k log k) time.
+     */
+    public IList<T> snapshot() {
+        DynamicArrayList<T> result = new DynamicArrayList<>(this.heap.size());
+        while (!this.heap.isEmpty()) {
+            result.add(this.heap.removeMin());
+        }
+        // Rebuilding from the whole batch heapifies in linear time.
+        this.heap.insertAll(result);
+        return result;
+    }
+}
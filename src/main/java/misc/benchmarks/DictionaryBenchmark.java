@@ -0,0 +1,103 @@
+package misc.benchmarks;
+
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.ImmutableDictionary;
+import datastructures.concrete.dictionaries.ProbingHashDictionary;
+import datastructures.interfaces.IDictionary;
+
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Compares ChainedHashDictionary, ProbingHashDictionary and a frozen
+ * ImmutableDictionary copy: heap bytes used per entry and the average latency of a
+ * successful lookup.
+ *
+ * Usage: DictionaryBenchmark [maxPowerOfTen]   (defaults to 7, i.e. 10^4 up to 10^7 entries)
+ *
+ * Run with a large heap (e.g. -Xmx8g) for the 10^7 case.
+ */
+public class DictionaryBenchmark {
+    private static final int LOOKUPS = 2000000;
+
+    public static void main(String[] args) {
+        int maxPower = args.length > 0 ? Integer.parseInt(args[0]) : 7;
+
+        System.out.printf("%-24s %10s %14s %14s%n", "dictionary", "entries", "bytes/entry", "ns/lookup");
+        for (int power = 4; power <= maxPower; power++) {
+            int size = (int) Math.pow(10, power);
+            Integer[] keys = makeKeys(size);
+            run("ChainedHashDictionary", ChainedHashDictionary::new, keys);
+            run("ProbingHashDictionary", ProbingHashDictionary::new, keys);
+            measure("ImmutableDictionary", DictionaryBenchmark::makeFrozen, keys);
+        }
+    }
+
+    private static Integer[] makeKeys(int size) {
+        Integer[] keys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = i * 31;
+        }
+        return keys;
+    }
+
+    // Builds through a ProbingHashDictionary, which becomes garbage once frozen.
+    private static IDictionary<Integer, Integer> makeFrozen(Integer[] keys) {
+        IDictionary<Integer, Integer> source = new ProbingHashDictionary<>();
+        for (Integer key : keys) {
+            source.put(key, key);
+        }
+        return ImmutableDictionary.copyOf(source);
+    }
+
+    private static void run(String name, Supplier<IDictionary<Integer, Integer>> factory, Integer[] keys) {
+        measure(name, all -> {
+            IDictionary<Integer, Integer> dict = factory.get();
+            for (Integer key : all) {
+                dict.put(key, key);
+            }
+            return dict;
+        }, keys);
+    }
+
+    private static void measure(String name, Function<Integer[], IDictionary<Integer, Integer>> builder, Integer[] keys) {
+        // The keys (and the values, which reuse them) are allocated up front, so the
+        // memory delta below only counts the dictionary's own structure.
+        long before = usedMemory();
+        IDictionary<Integer, Integer> dict = builder.apply(keys);
+        long after = usedMemory();
+
+        Random rand = new Random(42);
+        int[] order = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            order[i] = rand.nextInt(keys.length);
+        }
+
+        // Warm up, then time.
+        long checksum = lookupAll(dict, keys, order);
+        long start = System.nanoTime();
+        checksum += lookupAll(dict, keys, order);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%-24s %10d %14.1f %14.1f   (checksum %d)%n",
+                name, keys.length, (double) (after - before) / keys.length,
+                (double) elapsed / LOOKUPS, checksum);
+    }
+
+    private static long lookupAll(IDictionary<Integer, Integer> dict, Integer[] keys, int[] order) {
+        long sum = 0;
+        for (int index : order) {
+            sum += dict.get(keys[index]);
+        }
+        return sum;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
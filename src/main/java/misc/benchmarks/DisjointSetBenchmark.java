@@ -0,0 +1,66 @@
+package misc.benchmarks;
+
+import datastructures.concrete.ConcurrentIntDisjointSet;
+import datastructures.concrete.IntDisjointSet;
+
+import java.util.Random;
+
+/**
+ * Times random unions over dense ids: IntDisjointSet on one thread, then
+ * ConcurrentIntDisjointSet with 1 to 32 threads sharing one forest.
+ *
+ * Usage: DisjointSetBenchmark [ids] [unions]   (defaults: 10^7 and 10^7)
+ *
+ * Run with a large heap (e.g. -Xmx2g) for the default sizes.
+ */
+public class DisjointSetBenchmark {
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32};
+
+    public static void main(String[] args) throws InterruptedException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+        int numUnions = args.length > 1 ? Integer.parseInt(args[1]) : 10000000;
+
+        Random rand = new Random(42);
+        int[] firsts = new int[numUnions];
+        int[] seconds = new int[numUnions];
+        for (int i = 0; i < numUnions; i++) {
+            firsts[i] = rand.nextInt(count);
+            seconds[i] = rand.nextInt(count);
+        }
+
+        System.out.printf("%-28s %8s %12s %16s%n", "forest", "threads", "ms", "Munions/s");
+        long start = System.nanoTime();
+        IntDisjointSet sequential = new IntDisjointSet(count);
+        for (int i = 0; i < numUnions; i++) {
+            sequential.union(firsts[i], seconds[i]);
+        }
+        report("IntDisjointSet", 1, System.nanoTime() - start, numUnions);
+
+        for (int numThreads : THREAD_COUNTS) {
+            ConcurrentIntDisjointSet forest = new ConcurrentIntDisjointSet(count);
+            Thread[] threads = new Thread[numThreads];
+            int chunk = (numUnions + numThreads - 1) / numThreads;
+            for (int t = 0; t < numThreads; t++) {
+                int from = Math.min(numUnions, t * chunk);
+                int to = Math.min(numUnions, from + chunk);
+                threads[t] = new Thread(() -> {
+                    for (int i = from; i < to; i++) {
+                        forest.union(firsts[i], seconds[i]);
+                    }
+                });
+            }
+            start = System.nanoTime();
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            report("ConcurrentIntDisjointSet", numThreads, System.nanoTime() - start, numUnions);
+        }
+    }
+
+    private static void report(String name, int threads, long nanos, int numUnions) {
+        System.out.printf("%-28s %8d %12.1f %16.2f%n", name, threads, nanos / 1e6, numUnions * 1e3 / nanos);
+    }
+}
@@ -0,0 +1,78 @@
+package misc.benchmarks;
+
+import datastructures.concrete.StructureStats;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.HashMixer;
+import mazes.entities.LineSegment;
+
+import java.awt.Point;
+
+/**
+ * Compares the HashMixer strategies on ChainedHashDictionary using the keys the
+ * mazes actually hash: grid Points and the LineSegments between neighbouring grid
+ * points. Reports the longest chain, the average probes per lookup, the number of
+ * resizes and the time spent resizing, plus build and lookup time.
+ *
+ * Usage: HashMixerBenchmark [gridSize]   (defaults to 500, i.e. 250000 points)
+ *
+ * Turns stats collection on itself, so there is no need to pass -Ddatastructures.stats=true.
+ */
+public class HashMixerBenchmark {
+    private static final String[] NAMES = {"IDENTITY", "FIBONACCI", "MURMUR3"};
+    private static final HashMixer[] MIXERS = {HashMixer.IDENTITY, HashMixer.FIBONACCI, HashMixer.MURMUR3};
+
+    public static void main(String[] args) {
+        // Both must be set before the classes that read them are loaded.
+        System.setProperty("java.awt.headless", "true");
+        System.setProperty("datastructures.stats", "true");
+        int gridSize = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+
+        Object[] points = new Object[gridSize * gridSize];
+        Object[] segments = new Object[gridSize * gridSize];
+        for (int x = 0; x < gridSize; x++) {
+            for (int y = 0; y < gridSize; y++) {
+                Point point = new Point(x * 20, y * 20);
+                points[x * gridSize + y] = point;
+                segments[x * gridSize + y] = new LineSegment(point, new Point(x * 20 + 20, y * 20));
+            }
+        }
+
+        System.out.printf("%-12s %-10s %10s %10s %9s %10s %10s %12s%n",
+                "keys", "mixer", "longest", "avgProbes", "resizes", "resizeMs", "buildMs", "ns/lookup");
+        for (int i = 0; i < MIXERS.length; i++) {
+            run("Point", NAMES[i], MIXERS[i], points);
+        }
+        for (int i = 0; i < MIXERS.length; i++) {
+            run("LineSegment", NAMES[i], MIXERS[i], segments);
+        }
+    }
+
+    private static void run(String keyName, String mixerName, HashMixer mixer, Object[] keys) {
+        long start = System.nanoTime();
+        ChainedHashDictionary<Object, Object> dict = new ChainedHashDictionary<>(false, mixer);
+        for (Object key : keys) {
+            dict.put(key, key);
+        }
+        long built = System.nanoTime();
+
+        StructureStats stats = dict.getStats();
+        int resizes = stats.getResizes();
+        long resizeNanos = stats.getResizeNanos();
+        stats.reset();
+
+        long lookupStart = System.nanoTime();
+        int found = 0;
+        for (Object key : keys) {
+            if (dict.containsKey(key)) {
+                found++;
+            }
+        }
+        long lookupNanos = System.nanoTime() - lookupStart;
+
+        int[] histogram = dict.chainLengthHistogram();
+        System.out.printf("%-12s %-10s %10d %10.2f %9d %10.1f %10.1f %12.1f%s%n",
+                keyName, mixerName, histogram.length - 1, stats.getAverageProbes(), resizes,
+                resizeNanos / 1e6, (built - start) / 1e6, (double) lookupNanos / keys.length,
+                found == keys.length ? "" : "   (missing keys!)");
+    }
+}
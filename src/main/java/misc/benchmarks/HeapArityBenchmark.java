@@ -0,0 +1,97 @@
+package misc.benchmarks;
+
+import datastructures.concrete.ArrayHeap;
+import mazes.entities.LineSegment;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+
+import java.awt.Point;
+import java.awt.Polygon;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Measures ArrayHeap insert and removeMin throughput for arities 2, 4, 8 and 16,
+ * using both maze Walls and small Dijkstra-style vertex records as elements.
+ *
+ * Usage: HeapArityBenchmark [maxPowerOfTen]   (defaults to 6, i.e. 10^3 up to 10^6 elements)
+ *
+ * Run with a large heap (e.g. -Xmx8g) for the 10^7 case.
+ */
+public class HeapArityBenchmark {
+    private static final int[] ARITIES = {2, 4, 8, 16};
+
+    /**
+     * Stand-in for the per-vertex entries a shortest-path search keeps in its queue.
+     */
+    private static class VertexEntry implements Comparable<VertexEntry> {
+        private final int id;
+        private final double cost;
+
+        public VertexEntry(int id, double cost) {
+            this.id = id;
+            this.cost = cost;
+        }
+
+        @Override
+        public int compareTo(VertexEntry other) {
+            return Double.compare(this.cost, other.cost);
+        }
+    }
+
+    public static void main(String[] args) {
+        int maxPower = args.length > 0 ? Integer.parseInt(args[0]) : 6;
+
+        System.out.printf("%-8s %10s %6s %16s %16s%n", "element", "size", "arity", "insert Mops/s", "remove Mops/s");
+        for (int power = 3; power <= maxPower; power++) {
+            int size = (int) Math.pow(10, power);
+            Random rand = new Random(power);
+            Wall[] walls = makeArray(size, Wall[]::new, i -> makeWall(i, rand.nextDouble()));
+            VertexEntry[] vertices = makeArray(size, VertexEntry[]::new, i -> new VertexEntry(i, rand.nextDouble()));
+            for (int arity : ARITIES) {
+                run("Wall", walls, arity);
+            }
+            for (int arity : ARITIES) {
+                run("Vertex", vertices, arity);
+            }
+        }
+    }
+
+    private static <T> T[] makeArray(int size, IntFunction<T[]> arrayMaker, IntFunction<T> itemMaker) {
+        T[] items = arrayMaker.apply(size);
+        for (int i = 0; i < size; i++) {
+            items[i] = itemMaker.apply(i);
+        }
+        return items;
+    }
+
+    private static Wall makeWall(int index, double distance) {
+        Room room1 = new Room(new Point(index, 0), new Polygon());
+        Room room2 = new Room(new Point(index, 1), new Polygon());
+        LineSegment line = new LineSegment(new Point(index, 0), new Point(index + 1, 0));
+        return new Wall(room1, room2, line, distance);
+    }
+
+    private static <T extends Comparable<T>> void run(String name, T[] items, int arity) {
+        // One untimed round to let the JIT settle, then a timed one.
+        churn(items, arity);
+        long[] nanos = churn(items, arity);
+        System.out.printf("%-8s %10d %6d %16.2f %16.2f%n", name, items.length, arity,
+                items.length / (nanos[0] / 1000.0), items.length / (nanos[1] / 1000.0));
+    }
+
+    // Returns {nanoseconds spent inserting, nanoseconds spent removing}.
+    private static <T extends Comparable<T>> long[] churn(T[] items, int arity) {
+        ArrayHeap<T> heap = new ArrayHeap<>(arity);
+        long start = System.nanoTime();
+        for (T item : items) {
+            heap.insert(item);
+        }
+        long middle = System.nanoTime();
+        while (!heap.isEmpty()) {
+            heap.removeMin();
+        }
+        long end = System.nanoTime();
+        return new long[] {middle - start, end - middle};
+    }
+}
@@ -0,0 +1,75 @@
+package misc.benchmarks;
+
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.DynamicArrayList;
+import datastructures.interfaces.IList;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Times indexed scans (for i in 0..n: list.get(i)) over DoubleLinkedList and
+ * DynamicArrayList: a forward scan, a backward scan, and a "near-sequential" scan
+ * that jumps a few positions back and forth as it moves along.
+ *
+ * With the cursor in DoubleLinkedList all three are linear overall, so the time
+ * per get should stay flat as n grows.
+ *
+ * Usage: ListIndexingBenchmark [maxPowerOfTen]   (defaults to 6, i.e. 10^3 up to 10^6 elements)
+ */
+public class ListIndexingBenchmark {
+    public static void main(String[] args) {
+        int maxPower = args.length > 0 ? Integer.parseInt(args[0]) : 6;
+
+        System.out.printf("%-18s %10s %14s %14s %14s%n", "list", "size", "fwd ns/get", "back ns/get", "near ns/get");
+        for (int power = 3; power <= maxPower; power++) {
+            int size = (int) Math.pow(10, power);
+            run("DoubleLinkedList", DoubleLinkedList::new, size);
+            run("DynamicArrayList", DynamicArrayList::new, size);
+        }
+    }
+
+    private static void run(String name, Supplier<IList<Integer>> factory, int size) {
+        IList<Integer> list = factory.get();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        int[] near = new int[size];
+        Random rand = new Random(size);
+        for (int i = 0; i < size; i++) {
+            near[i] = Math.min(size - 1, Math.max(0, i + rand.nextInt(9) - 4));
+        }
+        int[] forward = new int[size];
+        int[] backward = new int[size];
+        for (int i = 0; i < size; i++) {
+            forward[i] = i;
+            backward[i] = size - 1 - i;
+        }
+
+        // Warm up once, then time each pattern.
+        long checksum = scan(list, forward) + scan(list, near);
+        double forwardTime = time(list, forward);
+        double backwardTime = time(list, backward);
+        double nearTime = time(list, near);
+        System.out.printf("%-18s %10d %14.1f %14.1f %14.1f   (checksum %d)%n",
+                name, size, forwardTime, backwardTime, nearTime, checksum);
+    }
+
+    // Repeats small scans so that every measurement covers about 10^6 gets.
+    private static double time(IList<Integer> list, int[] indices) {
+        int passes = Math.max(1, 1000000 / indices.length);
+        long start = System.nanoTime();
+        for (int i = 0; i < passes; i++) {
+            scan(list, indices);
+        }
+        return (double) (System.nanoTime() - start) / ((long) passes * indices.length);
+    }
+
+    private static long scan(IList<Integer> list, int[] indices) {
+        long sum = 0;
+        for (int index : indices) {
+            sum += list.get(index);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,75 @@
+package misc.benchmarks;
+
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.DynamicArrayList;
+import datastructures.concrete.UnrolledLinkedList;
+import datastructures.interfaces.IList;
+
+import java.util.function.Supplier;
+
+/**
+ * Compares DoubleLinkedList, UnrolledLinkedList and DynamicArrayList: heap bytes
+ * used per element and iteration throughput.
+ *
+ * All lists hold the same few boxed Integers over and over, so the memory figure
+ * only counts each list's own structure.
+ *
+ * Usage: ListMemoryBenchmark [maxPowerOfTen]   (defaults to 7, i.e. 10^6 up to 10^7 elements)
+ *
+ * 10^8 elements need a very large heap (-Xmx12g or so for DoubleLinkedList).
+ */
+public class ListMemoryBenchmark {
+    private static final Integer[] VALUES = new Integer[128];
+
+    static {
+        for (int i = 0; i < VALUES.length; i++) {
+            VALUES[i] = i;
+        }
+    }
+
+    public static void main(String[] args) {
+        int maxPower = args.length > 0 ? Integer.parseInt(args[0]) : 7;
+
+        System.out.printf("%-20s %12s %14s %16s%n", "list", "elements", "bytes/elem", "iterate ns/elem");
+        for (int power = 6; power <= maxPower; power++) {
+            int size = (int) Math.pow(10, power);
+            run("DoubleLinkedList", DoubleLinkedList::new, size);
+            run("UnrolledLinkedList", UnrolledLinkedList::new, size);
+            run("DynamicArrayList", DynamicArrayList::new, size);
+        }
+    }
+
+    private static void run(String name, Supplier<IList<Integer>> factory, int size) {
+        long before = usedMemory();
+        IList<Integer> list = factory.get();
+        for (int i = 0; i < size; i++) {
+            list.add(VALUES[i & 127]);
+        }
+        long after = usedMemory();
+
+        // Warm up, then time.
+        long checksum = iterate(list);
+        long start = System.nanoTime();
+        checksum += iterate(list);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%-20s %12d %14.1f %16.2f   (checksum %d)%n",
+                name, size, (double) (after - before) / size, (double) elapsed / size, checksum);
+    }
+
+    private static long iterate(IList<Integer> list) {
+        long sum = 0;
+        for (int value : list) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
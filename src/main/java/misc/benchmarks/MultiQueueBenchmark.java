@@ -0,0 +1,92 @@
+package misc.benchmarks;
+
+import datastructures.concrete.ArrayHeap;
+import datastructures.concrete.MultiQueue;
+import datastructures.interfaces.IConcurrentPriorityQueue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Measures concurrent priority queue throughput for 1 to 32 threads: MultiQueue
+ * against a single ArrayHeap behind one lock.
+ *
+ * Every thread repeatedly inserts a random key and then removes one, starting from
+ * a prefilled queue, which resembles the steady state of a parallel search.
+ *
+ * Usage: MultiQueueBenchmark [millisPerRun] [prefill]   (defaults: 1000, 100000)
+ */
+public class MultiQueueBenchmark {
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32};
+
+    /**
+     * The baseline: one heap, one lock.
+     */
+    private static class LockedHeap implements IConcurrentPriorityQueue<Integer> {
+        private final ArrayHeap<Integer> heap = new ArrayHeap<>();
+
+        @Override
+        public synchronized void insert(Integer item) {
+            this.heap.insert(item);
+        }
+
+        @Override
+        public synchronized Integer tryRemoveMin() {
+            return this.heap.isEmpty() ? null : this.heap.removeMin();
+        }
+
+        @Override
+        public synchronized int size() {
+            return this.heap.size();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        long millis = args.length > 0 ? Long.parseLong(args[0]) : 1000;
+        int prefill = args.length > 1 ? Integer.parseInt(args[1]) : 100000;
+
+        System.out.printf("%-12s %8s %16s%n", "queue", "threads", "Mops/s");
+        for (int threads : THREAD_COUNTS) {
+            run("LockedHeap", LockedHeap::new, threads, millis, prefill);
+            run("MultiQueue", () -> new MultiQueue<>(2 * threads), threads, millis, prefill);
+        }
+    }
+
+    private static void run(String name, Supplier<IConcurrentPriorityQueue<Integer>> factory,
+                            int numThreads, long millis, int prefill) throws InterruptedException {
+        IConcurrentPriorityQueue<Integer> queue = factory.get();
+        for (int i = 0; i < prefill; i++) {
+            queue.insert(ThreadLocalRandom.current().nextInt());
+        }
+
+        AtomicBoolean stop = new AtomicBoolean(false);
+        LongAdder operations = new LongAdder();
+        CountDownLatch ready = new CountDownLatch(numThreads);
+        Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            threads[t] = new Thread(() -> {
+                ThreadLocalRandom rand = ThreadLocalRandom.current();
+                ready.countDown();
+                long count = 0;
+                while (!stop.get()) {
+                    queue.insert(rand.nextInt());
+                    queue.tryRemoveMin();
+                    count += 2;
+                }
+                operations.add(count);
+            });
+            threads[t].start();
+        }
+        ready.await();
+        Thread.sleep(millis);
+        stop.set(true);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        System.out.printf("%-12s %8d %16.2f%n", name, numThreads, operations.sum() / (millis * 1000.0));
+    }
+}
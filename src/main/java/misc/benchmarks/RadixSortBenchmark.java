@@ -0,0 +1,59 @@
+package misc.benchmarks;
+
+import datastructures.concrete.DynamicArrayList;
+import datastructures.interfaces.IList;
+import misc.Sorter;
+
+import java.util.Random;
+
+/**
+ * Compares ordering edges by weight the way Kruskal used to (sorting edge objects
+ * through compareTo with Sorter.parallelSort) against Sorter.radixSortIndices on a
+ * flat double[] of the same weights.
+ *
+ * Usage: RadixSortBenchmark [maxPowerOfTen]   (defaults to 7, i.e. 10^5 up to 10^7 edges)
+ */
+public class RadixSortBenchmark {
+    // Stands in for a wall: an object compared by a double weight.
+    private static class Edge implements Comparable<Edge> {
+        private final double weight;
+
+        public Edge(double weight) {
+            this.weight = weight;
+        }
+
+        @Override
+        public int compareTo(Edge other) {
+            return Double.compare(this.weight, other.weight);
+        }
+    }
+
+    public static void main(String[] args) {
+        int maxPower = args.length > 0 ? Integer.parseInt(args[0]) : 7;
+
+        System.out.printf("%-24s %12s %12s%n", "sort", "edges", "ms");
+        for (int power = 5; power <= maxPower; power++) {
+            int size = (int) Math.pow(10, power);
+            Random rand = new Random(42);
+            double[] weights = new double[size];
+            IList<Edge> edges = new DynamicArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                weights[i] = rand.nextDouble();
+                edges.add(new Edge(weights[i]));
+            }
+
+            time("parallelSort(edges)", size, () -> Sorter.parallelSort(edges));
+            time("radixSortIndices", size, () -> Sorter.radixSortIndices(weights));
+        }
+    }
+
+    private static void time(String name, int size, Runnable sort) {
+        // Warm up, then time.
+        for (int i = 0; i < 3; i++) {
+            sort.run();
+        }
+        long start = System.nanoTime();
+        sort.run();
+        System.out.printf("%-24s %12d %12.1f%n", name, size, (System.nanoTime() - start) / 1e6);
+    }
+}
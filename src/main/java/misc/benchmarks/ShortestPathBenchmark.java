@@ -0,0 +1,57 @@
+package misc.benchmarks;
+
+import datastructures.concrete.Graph;
+import datastructures.interfaces.IList;
+import mazes.entities.Maze;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+import mazes.generators.base.GridGenerator;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+
+/**
+ * Times Graph.findShortestPathBetween on a fully open grid maze (every wall is an
+ * edge), corner to corner, once per available frontier queue.
+ *
+ * Grid room centers are whole-pixel points, so wall distances are whole numbers
+ * and the AUTOMATIC setting picks the radix heap.
+ *
+ * Usage: ShortestPathBenchmark [gridSide] [repetitions]   (defaults: 2000, 3)
+ *
+ * A 2000x2000 grid needs a large heap (e.g. -Xmx12g).
+ */
+public class ShortestPathBenchmark {
+    private static final int ROOM_SIZE = 4;
+
+    public static void main(String[] args) {
+        // Only java.awt geometry classes are used; no window is ever opened.
+        System.setProperty("java.awt.headless", "true");
+        int side = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int repetitions = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        Rectangle bounds = new Rectangle(0, 0, side * ROOM_SIZE, side * ROOM_SIZE);
+        Maze maze = new GridGenerator(side, side).generateBaseMaze(bounds);
+        Graph<Room, Wall> graph = new Graph<>(maze.getRooms(), maze.getWalls());
+        Room start = maze.getRoom(new Point(1, 1));
+        Room end = maze.getRoom(new Point(side * ROOM_SIZE - 2, side * ROOM_SIZE - 2));
+        System.out.printf("%dx%d grid: %d rooms, %d walls%n", side, side, graph.numVertices(), graph.numEdges());
+
+        for (Graph.ShortestPathQueue queue : Graph.ShortestPathQueue.values()) {
+            graph.setShortestPathQueue(queue);
+            long best = Long.MAX_VALUE;
+            double cost = 0;
+            for (int i = 0; i < repetitions; i++) {
+                long before = System.nanoTime();
+                IList<Wall> path = graph.findShortestPathBetween(start, end);
+                best = Math.min(best, System.nanoTime() - before);
+                cost = 0;
+                for (Wall wall : path) {
+                    cost += wall.getDistance();
+                }
+            }
+            System.out.printf("%-12s best of %d: %8.1f ms   (path cost %.1f)%n",
+                    queue, repetitions, best / 1e6, cost);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package misc.benchmarks;
+
+import datastructures.concrete.DynamicArrayList;
+import datastructures.interfaces.IList;
+import misc.Sorter;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares a full sort with Sorter.topKSort(n, list), which is what Kruskal used
+ * to do, against Sorter.parallelSort(list) run in fork-join pools of different
+ * sizes. The elements are random boxed Doubles, like wall weights.
+ *
+ * Usage: SortBenchmark [maxPowerOfTen] [threads ...]
+ *   maxPowerOfTen defaults to 7 (10^5 up to 10^7 elements); threads defaults to
+ *   1, 2, 4, ... up to the number of available processors.
+ *
+ * 10^8 elements need a very large heap (-Xmx24g or so).
+ */
+public class SortBenchmark {
+    public static void main(String[] args) {
+        int maxPower = args.length > 0 ? Integer.parseInt(args[0]) : 7;
+        int[] threadCounts;
+        if (args.length > 1) {
+            threadCounts = new int[args.length - 1];
+            for (int i = 1; i < args.length; i++) {
+                threadCounts[i - 1] = Integer.parseInt(args[i]);
+            }
+        } else {
+            int processors = Runtime.getRuntime().availableProcessors();
+            int count = 1;
+            while ((1 << count) <= processors) {
+                count++;
+            }
+            threadCounts = new int[count];
+            for (int i = 0; i < count; i++) {
+                threadCounts[i] = 1 << i;
+            }
+        }
+
+        System.out.printf("%-22s %12s %8s %12s%n", "sort", "elements", "threads", "ms");
+        for (int power = 5; power <= maxPower; power++) {
+            int size = (int) Math.pow(10, power);
+            IList<Double> list = makeList(size);
+
+            // Warm up, then time.
+            Sorter.topKSort(size, list);
+            long start = System.nanoTime();
+            Sorter.topKSort(size, list);
+            report("topKSort(n)", size, 1, System.nanoTime() - start);
+
+            for (int threads : threadCounts) {
+                ForkJoinPool pool = new ForkJoinPool(threads);
+                pool.submit(() -> Sorter.parallelSort(list)).join();
+                start = System.nanoTime();
+                pool.submit(() -> Sorter.parallelSort(list)).join();
+                report("parallelSort", size, threads, System.nanoTime() - start);
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static IList<Double> makeList(int size) {
+        Random rand = new Random(42);
+        IList<Double> list = new DynamicArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(rand.nextDouble());
+        }
+        return list;
+    }
+
+    private static void report(String name, int size, int threads, long nanos) {
+        System.out.printf("%-22s %12d %8d %12.1f%n", name, size, threads, nanos / 1e6);
+    }
+}
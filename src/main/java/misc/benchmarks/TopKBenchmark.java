@@ -0,0 +1,45 @@
+package misc.benchmarks;
+
+import datastructures.concrete.DynamicArrayList;
+import datastructures.interfaces.IList;
+import misc.Sorter;
+
+import java.util.Random;
+
+/**
+ * Compares Sorter.topKSort with Sorter.parallelTopKSort for a range of k, from a
+ * handful of elements up to a quarter of the input (where parallelTopKSort uses
+ * quickselect instead of per-task heaps).
+ *
+ * Usage: TopKBenchmark [powerOfTen]   (defaults to 7, i.e. 10^7 elements)
+ *
+ * The pool size can be set with -Djava.util.concurrent.ForkJoinPool.common.parallelism=N.
+ */
+public class TopKBenchmark {
+    public static void main(String[] args) {
+        int power = args.length > 0 ? Integer.parseInt(args[0]) : 7;
+        int size = (int) Math.pow(10, power);
+
+        Random rand = new Random(42);
+        IList<Double> list = new DynamicArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(rand.nextDouble());
+        }
+
+        System.out.printf("%-20s %12s %12s %12s%n", "sort", "elements", "k", "ms");
+        for (int k : new int[] {10, 1000, size / 100, size / 4}) {
+            time("topKSort", size, k, () -> Sorter.topKSort(k, list));
+            time("parallelTopKSort", size, k, () -> Sorter.parallelTopKSort(k, list));
+        }
+    }
+
+    private static void time(String name, int size, int k, Runnable sort) {
+        // Warm up, then time.
+        for (int i = 0; i < 3; i++) {
+            sort.run();
+        }
+        long start = System.nanoTime();
+        sort.run();
+        System.out.printf("%-20s %12d %12d %12.1f%n", name, size, k, (System.nanoTime() - start) / 1e6);
+    }
+}
@@ -0,0 +1,171 @@
+package datastructures;
+
+import datastructures.concrete.ConcurrentIntDisjointSet;
+import datastructures.concrete.IntDisjointSet;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestConcurrentIntDisjointSet extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testSingleThreadedBasics() {
+        ConcurrentIntDisjointSet forest = new ConcurrentIntDisjointSet(5);
+        assertEquals(5, forest.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, forest.findSet(i));
+        }
+        assertTrue(forest.union(0, 1));
+        assertTrue(forest.union(3, 4));
+        assertFalse(forest.union(1, 0));
+        assertTrue(forest.connected(0, 1));
+        assertFalse(forest.connected(1, 3));
+        assertTrue(forest.union(1, 4));
+        assertEquals(forest.findSet(0), forest.findSet(3));
+        assertEquals(2, forest.findSet(2));
+    }
+
+    @Test(timeout=SECOND)
+    public void testInvalidIds() {
+        ConcurrentIntDisjointSet forest = new ConcurrentIntDisjointSet(3);
+        try {
+            forest.findSet(3);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            forest.union(0, -1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            new ConcurrentIntDisjointSet(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testConcurrentUnionsMatchSequentialResult() throws InterruptedException {
+        int count = 100000;
+        int numThreads = 8;
+        int unionsPerThread = 40000;
+        Random rand = new Random(11);
+        int[][] firsts = new int[numThreads][unionsPerThread];
+        int[][] seconds = new int[numThreads][unionsPerThread];
+        for (int t = 0; t < numThreads; t++) {
+            for (int i = 0; i < unionsPerThread; i++) {
+                firsts[t][i] = rand.nextInt(count);
+                seconds[t][i] = rand.nextInt(count);
+            }
+        }
+
+        ConcurrentIntDisjointSet forest = new ConcurrentIntDisjointSet(count);
+        AtomicInteger merges = new AtomicInteger(0);
+        Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            int[] a = firsts[t];
+            int[] b = seconds[t];
+            threads[t] = new Thread(() -> {
+                int local = 0;
+                for (int i = 0; i < a.length; i++) {
+                    if (forest.union(a[i], b[i])) {
+                        local++;
+                    }
+                }
+                merges.addAndGet(local);
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        IntDisjointSet expected = new IntDisjointSet(count);
+        int expectedMerges = 0;
+        for (int t = 0; t < numThreads; t++) {
+            for (int i = 0; i < unionsPerThread; i++) {
+                if (expected.union(firsts[t][i], seconds[t][i])) {
+                    expectedMerges++;
+                }
+            }
+        }
+        // Every merge must have been reported by exactly one successful union call.
+        assertEquals(expectedMerges, merges.get());
+        for (int i = 0; i < count; i++) {
+            int j = rand.nextInt(count);
+            assertEquals(expected.connected(i, j), forest.connected(i, j));
+            assertEquals(expected.findSet(i) == expected.findSet(j), forest.findSet(i) == forest.findSet(j));
+        }
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testConnectedNeverGoesBackToFalse() throws InterruptedException {
+        int count = 50000;
+        ConcurrentIntDisjointSet forest = new ConcurrentIntDisjointSet(count);
+        AtomicBoolean done = new AtomicBoolean(false);
+        AtomicBoolean violation = new AtomicBoolean(false);
+
+        // Readers watch fixed pairs while writers chain everything into one set.
+        Thread[] readers = new Thread[2];
+        for (int r = 0; r < readers.length; r++) {
+            int seed = r;
+            readers[r] = new Thread(() -> {
+                Random rand = new Random(seed);
+                int[] pairs = new int[64];
+                boolean[] seen = new boolean[32];
+                for (int i = 0; i < pairs.length; i++) {
+                    pairs[i] = rand.nextInt(count);
+                }
+                while (!done.get()) {
+                    for (int i = 0; i < seen.length; i++) {
+                        boolean now = forest.connected(pairs[2 * i], pairs[2 * i + 1]);
+                        if (seen[i] && !now) {
+                            violation.set(true);
+                        }
+                        seen[i] |= now;
+                    }
+                }
+            });
+        }
+        Thread[] writers = new Thread[4];
+        for (int w = 0; w < writers.length; w++) {
+            int offset = w;
+            writers[w] = new Thread(() -> {
+                for (int i = offset; i + 1 < count; i += writers.length) {
+                    forest.union(i, i + 1);
+                }
+            });
+        }
+        for (Thread reader : readers) {
+            reader.start();
+        }
+        for (Thread writer : writers) {
+            writer.start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        done.set(true);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertFalse(violation.get());
+        int root = forest.findSet(0);
+        for (int i = 0; i < count; i++) {
+            assertEquals(root, forest.findSet(i));
+        }
+    }
+}
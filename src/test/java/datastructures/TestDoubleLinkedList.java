@@ -0,0 +1,86 @@
+package datastructures;
+
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.DynamicArrayList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestDoubleLinkedList extends BaseTest {
+    private void assertSameContents(IList<Integer> expected, IList<Integer> actual) {
+        assertEquals(expected.size(), actual.size());
+        Iterator<Integer> iter = actual.iterator();
+        for (Integer item : expected) {
+            assertTrue(iter.hasNext());
+            assertEquals(item, iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testIndexedScansInBothDirections() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) list.get(i));
+        }
+        for (int i = 999; i >= 0; i--) {
+            assertEquals(i, (int) list.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testCursorStaysValidAcrossEdits() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        assertEquals(5, (int) list.get(5));
+        list.insert(0, -1);
+        assertEquals(5, (int) list.get(6));
+        list.delete(2);
+        assertEquals(5, (int) list.get(5));
+        list.delete(5);
+        assertEquals(6, (int) list.get(5));
+        list.set(5, 60);
+        assertEquals(60, (int) list.get(5));
+        assertEquals(4, (int) list.get(4));
+        assertEquals(7, (int) list.get(6));
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testRandomEditsMatchArrayList() {
+        Random rand = new Random(9);
+        IList<Integer> expected = new DynamicArrayList<>();
+        IList<Integer> actual = new DoubleLinkedList<>();
+        for (int step = 0; step < 20000; step++) {
+            int action = rand.nextInt(6);
+            int size = expected.size();
+            if (action <= 1 || size == 0) {
+                int index = rand.nextInt(size + 1);
+                expected.insert(index, step);
+                actual.insert(index, step);
+            } else if (action == 2) {
+                int index = rand.nextInt(size);
+                assertEquals(expected.delete(index), actual.delete(index));
+            } else if (action == 3) {
+                int index = rand.nextInt(size);
+                expected.set(index, -step);
+                actual.set(index, -step);
+            } else {
+                // Mostly near the previous position, like a sequential scan.
+                int index = Math.min(size - 1, Math.max(0, (step * 7) % size + rand.nextInt(3) - 1));
+                assertEquals(expected.get(index), actual.get(index));
+            }
+        }
+        assertSameContents(expected, actual);
+    }
+}
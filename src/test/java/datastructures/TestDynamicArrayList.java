@@ -0,0 +1,143 @@
+package datastructures;
+
+import datastructures.concrete.DynamicArrayList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestDynamicArrayList extends BaseTest {
+    private IList<String> makeBasicList() {
+        IList<String> list = new DynamicArrayList<>();
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        return list;
+    }
+
+    private <T> void assertListMatches(T[] expected, IList<T> actual) {
+        assertEquals(expected.length, actual.size());
+        assertEquals(expected.length == 0, actual.isEmpty());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual.get(i));
+        }
+        Iterator<T> iter = actual.iterator();
+        for (T item : expected) {
+            assertTrue(iter.hasNext());
+            assertEquals(item, iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddRemoveAndGet() {
+        IList<String> list = this.makeBasicList();
+        assertListMatches(new String[] {"a", "b", "c"}, list);
+        assertEquals("c", list.remove());
+        assertListMatches(new String[] {"a", "b"}, list);
+        list.set(1, "z");
+        assertListMatches(new String[] {"a", "z"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertAndDelete() {
+        IList<String> list = this.makeBasicList();
+        list.insert(0, "start");
+        list.insert(2, "middle");
+        list.insert(list.size(), "end");
+        assertListMatches(new String[] {"start", "a", "middle", "b", "c", "end"}, list);
+
+        assertEquals("middle", list.delete(2));
+        assertEquals("start", list.delete(0));
+        assertEquals("end", list.delete(3));
+        assertListMatches(new String[] {"a", "b", "c"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testIndexOfAndContainsWithNull() {
+        IList<String> list = this.makeBasicList();
+        list.add(null);
+        list.add("b");
+        assertEquals(1, list.indexOf("b"));
+        assertEquals(3, list.indexOf(null));
+        assertEquals(-1, list.indexOf("q"));
+        assertTrue(list.contains(null));
+        assertFalse(list.contains("q"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testErrors() {
+        IList<String> list = this.makeBasicList();
+        int[] badIndices = {-1, 3};
+        for (int index : badIndices) {
+            try {
+                list.get(index);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+            try {
+                list.delete(index);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+        try {
+            list.insert(4, "x");
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+
+        IList<String> empty = new DynamicArrayList<>();
+        try {
+            empty.remove();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            empty.iterator().next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testCapacityTrimAndReverse() {
+        DynamicArrayList<Integer> list = new DynamicArrayList<>(0);
+        list.ensureCapacity(100);
+        for (int i = 0; i < 50; i++) {
+            list.add(i);
+        }
+        list.trimToSize();
+        list.add(50);
+        list.reverse();
+        for (int i = 0; i <= 50; i++) {
+            assertEquals(50 - i, (int) list.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testManyIndexedReadsAreFast() {
+        IList<Integer> list = new DynamicArrayList<>();
+        int cap = 200000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < cap; i++) {
+            sum += list.get(i);
+        }
+        assertEquals((long) cap * (cap - 1) / 2, sum);
+    }
+}
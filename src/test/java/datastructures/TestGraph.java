@@ -0,0 +1,234 @@
+package datastructures;
+
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.Graph;
+import datastructures.interfaces.IEdge;
+import datastructures.interfaces.IList;
+import datastructures.interfaces.ISet;
+import misc.BaseTest;
+import misc.exceptions.NoPathExistsException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestGraph extends BaseTest {
+    private static class SimpleEdge<V> implements IEdge<V>, Comparable<SimpleEdge<V>> {
+        private V vertex1;
+        private V vertex2;
+        private double weight;
+
+        public SimpleEdge(V vertex1, V vertex2, double weight) {
+            this.vertex1 = vertex1;
+            this.vertex2 = vertex2;
+            this.weight = weight;
+        }
+
+        public V getVertex1() {
+            return this.vertex1;
+        }
+
+        public V getVertex2() {
+            return this.vertex2;
+        }
+
+        public double getWeight() {
+            return this.weight;
+        }
+
+        @Override
+        public int compareTo(SimpleEdge<V> other) {
+            return Double.compare(this.weight, other.weight);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("SimpleEdge(%s, %s, %s)", this.vertex1, this.vertex2, this.weight);
+        }
+    }
+
+    private <V> SimpleEdge<V> edge(V v1, V v2, double weight) {
+        return new SimpleEdge<>(v1, v2, weight);
+    }
+
+    private <V> void assertPathMatches(Graph<V, SimpleEdge<V>> graph, double expectedCost, V[] expectedPath) {
+        IList<SimpleEdge<V>> path = graph.findShortestPathBetween(expectedPath[0], expectedPath[expectedPath.length - 1]);
+        assertEquals(expectedPath.length - 1, path.size());
+
+        double cost = 0.0;
+        V current = expectedPath[0];
+        int index = 1;
+        for (SimpleEdge<V> edge : path) {
+            current = edge.getOtherVertex(current);
+            assertEquals(expectedPath[index], current);
+            cost += edge.getWeight();
+            index++;
+        }
+        assertEquals(expectedCost, cost, 0.0001);
+    }
+
+    private Graph<String, SimpleEdge<String>> buildSimpleGraph() {
+        IList<String> vertices = new DoubleLinkedList<>();
+        for (String name : new String[] {"a", "b", "c", "d", "e", "f", "g"}) {
+            vertices.add(name);
+        }
+
+        IList<SimpleEdge<String>> edges = new DoubleLinkedList<>();
+        edges.add(edge("a", "b", 2));
+        edges.add(edge("a", "c", 5));
+        edges.add(edge("a", "d", 2));
+        edges.add(edge("a", "f", 9));
+        edges.add(edge("b", "c", 8));
+        edges.add(edge("b", "d", 4));
+        edges.add(edge("b", "e", 3));
+        edges.add(edge("d", "f", 6));
+        edges.add(edge("e", "f", 7));
+        edges.add(edge("e", "e", 1));
+
+        return new Graph<>(vertices, edges);
+    }
+
+    @Test(timeout=SECOND)
+    public void testShortestPathSimple() {
+        Graph<String, SimpleEdge<String>> graph = this.buildSimpleGraph();
+        this.assertPathMatches(graph, 2.0, new String[] {"a", "b"});
+        this.assertPathMatches(graph, 5.0, new String[] {"a", "c"});
+        this.assertPathMatches(graph, 8.0, new String[] {"a", "d", "f"});
+        this.assertPathMatches(graph, 5.0, new String[] {"e", "b", "a"});
+    }
+
+    @Test(timeout=SECOND)
+    public void testShortestPathToSelfIsEmpty() {
+        Graph<String, SimpleEdge<String>> graph = this.buildSimpleGraph();
+        assertTrue(graph.findShortestPathBetween("c", "c").isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testShortestPathUnreachable() {
+        Graph<String, SimpleEdge<String>> graph = this.buildSimpleGraph();
+        try {
+            graph.findShortestPathBetween("a", "g");
+            fail("Expected NoPathExistsException");
+        } catch (NoPathExistsException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testMinimumSpanningTree() {
+        IList<String> vertices = new DoubleLinkedList<>();
+        for (String name : new String[] {"a", "b", "c", "d", "e", "f"}) {
+            vertices.add(name);
+        }
+        IList<SimpleEdge<String>> edges = new DoubleLinkedList<>();
+        edges.add(edge("a", "b", 2));
+        edges.add(edge("a", "c", 5));
+        edges.add(edge("a", "d", 2));
+        edges.add(edge("a", "f", 9));
+        edges.add(edge("b", "c", 8));
+        edges.add(edge("b", "d", 4));
+        edges.add(edge("b", "e", 3));
+        edges.add(edge("d", "f", 6));
+        edges.add(edge("e", "f", 7));
+
+        Graph<String, SimpleEdge<String>> graph = new Graph<>(vertices, edges);
+        ISet<SimpleEdge<String>> mst = graph.findMinimumSpanningTree();
+        assertEquals(5, mst.size());
+
+        double total = 0.0;
+        for (SimpleEdge<String> edge : mst) {
+            total += edge.getWeight();
+        }
+        assertEquals(18.0, total, 0.0001);
+    }
+
+    @Test(timeout=SECOND)
+    public void testMinimumSpanningTreeResultCannotChangeLaterCalls() {
+        IList<String> vertices = new DoubleLinkedList<>();
+        for (String name : new String[] {"a", "b", "c"}) {
+            vertices.add(name);
+        }
+        IList<SimpleEdge<String>> edges = new DoubleLinkedList<>();
+        edges.add(edge("a", "b", 1));
+        edges.add(edge("b", "c", 2));
+        edges.add(edge("a", "c", 3));
+        Graph<String, SimpleEdge<String>> graph = new Graph<>(vertices, edges);
+
+        ISet<SimpleEdge<String>> mst = graph.findMinimumSpanningTree();
+        try {
+            mst.add(edge("x", "y", 0));
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        mst.remove(edges.get(0));
+
+        ISet<SimpleEdge<String>> again = graph.findMinimumSpanningTree();
+        assertEquals(2, again.size());
+        assertTrue(again.contains(edges.get(0)));
+        assertTrue(again.contains(edges.get(1)));
+        assertEquals(1, mst.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testEveryQueueFindsTheSamePathCost() {
+        for (Graph.ShortestPathQueue queue : Graph.ShortestPathQueue.values()) {
+            Graph<String, SimpleEdge<String>> graph = this.buildSimpleGraph();
+            graph.setShortestPathQueue(queue);
+            this.assertPathMatches(graph, 8.0, new String[] {"a", "d", "f"});
+            this.assertPathMatches(graph, 5.0, new String[] {"e", "b", "a"});
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testFractionalWeightsWithAutomaticQueue() {
+        IList<String> vertices = new DoubleLinkedList<>();
+        vertices.add("a");
+        vertices.add("b");
+        vertices.add("c");
+        IList<SimpleEdge<String>> edges = new DoubleLinkedList<>();
+        edges.add(edge("a", "b", 0.25));
+        edges.add(edge("b", "c", 0.5));
+        edges.add(edge("a", "c", 1.0));
+        Graph<String, SimpleEdge<String>> graph = new Graph<>(vertices, edges);
+
+        this.assertPathMatches(graph, 0.75, new String[] {"a", "b", "c"});
+        try {
+            graph.setShortestPathQueue(Graph.ShortestPathQueue.RADIX_HEAP);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testShortestPathOnLargeGrid() {
+        int side = 150;
+        IList<Integer> vertices = new DoubleLinkedList<>();
+        for (int i = 0; i < side * side; i++) {
+            vertices.add(i);
+        }
+        IList<SimpleEdge<Integer>> edges = new DoubleLinkedList<>();
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int id = row * side + col;
+                if (col > 0) {
+                    edges.add(edge(id, id - 1, 1 + (id % 3)));
+                }
+                if (row > 0) {
+                    edges.add(edge(id, id - side, 1 + (id % 5)));
+                }
+            }
+        }
+        Graph<Integer, SimpleEdge<Integer>> graph = new Graph<>(vertices, edges);
+
+        IList<SimpleEdge<Integer>> path = graph.findShortestPathBetween(0, side * side - 1);
+        double cost = 0.0;
+        for (SimpleEdge<Integer> edge : path) {
+            cost += edge.getWeight();
+        }
+        // Every monotone route needs at least 2 * (side - 1) steps of cost >= 1.
+        assertTrue(path.size() >= 2 * (side - 1));
+        assertTrue(cost >= 2 * (side - 1));
+    }
+}
@@ -0,0 +1,173 @@
+package datastructures;
+
+import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.IndexedBitSet;
+import datastructures.interfaces.ISet;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestIndexedBitSet extends BaseTest {
+    private IndexedBitSet.Universe<Integer> makeUniverse(int size) {
+        IndexedBitSet.Universe<Integer> universe = new IndexedBitSet.Universe<>();
+        for (int i = 0; i < size; i++) {
+            universe.register(i * 10);
+        }
+        return universe;
+    }
+
+    @Test(timeout=SECOND)
+    public void testUniverseNumbering() {
+        IndexedBitSet.Universe<String> universe = new IndexedBitSet.Universe<>();
+        assertEquals(0, universe.register("a"));
+        assertEquals(1, universe.register("b"));
+        assertEquals(0, universe.register("a"));
+        assertEquals(2, universe.size());
+        assertEquals("b", universe.get(1));
+        assertEquals(-1, universe.indexOf("c"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddRemoveContains() {
+        IndexedBitSet<Integer> set = new IndexedBitSet<>(makeUniverse(100));
+        set.add(30);
+        set.add(30);
+        set.add(990);
+        set.addIndex(70);
+        assertEquals(3, set.size());
+        assertTrue(set.contains(30));
+        assertTrue(set.contains(700));
+        assertTrue(set.containsIndex(99));
+        assertFalse(set.contains(40));
+        assertFalse(set.contains(12345));
+
+        set.remove(30);
+        assertFalse(set.contains(30));
+        assertEquals(2, set.size());
+        try {
+            set.remove(30);
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+        try {
+            set.remove(12345);
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSealedUniverseRejectsNewItems() {
+        IndexedBitSet.Universe<String> universe = new IndexedBitSet.Universe<>();
+        universe.register("a");
+        universe.seal();
+        assertTrue(universe.isSealed());
+        IndexedBitSet<String> set = new IndexedBitSet<>(universe);
+        set.add("a");
+        try {
+            set.add("b");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(1, universe.size());
+        assertEquals(1, set.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddingNewItemsGrowsUniverse() {
+        IndexedBitSet<String> set = new IndexedBitSet<>();
+        for (int i = 0; i < 200; i++) {
+            set.add("item" + i);
+        }
+        assertEquals(200, set.size());
+        assertEquals(200, set.getUniverse().size());
+        assertTrue(set.contains("item150"));
+
+        Iterator<String> iter = set.iterator();
+        for (int i = 0; i < 200; i++) {
+            assertTrue(iter.hasNext());
+            assertEquals("item" + i, iter.next());
+        }
+        assertFalse(iter.hasNext());
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testWordParallelOperations() {
+        IndexedBitSet.Universe<Integer> universe = makeUniverse(300);
+        IndexedBitSet<Integer> evens = new IndexedBitSet<>(universe);
+        IndexedBitSet<Integer> threes = new IndexedBitSet<>(universe);
+        for (int i = 0; i < 300; i++) {
+            if (i % 2 == 0) {
+                evens.addIndex(i);
+            }
+            if (i % 3 == 0) {
+                threes.addIndex(i);
+            }
+        }
+
+        IndexedBitSet<Integer> union = evens.copy();
+        union.union(threes);
+        IndexedBitSet<Integer> both = evens.copy();
+        both.intersect(threes);
+        IndexedBitSet<Integer> onlyEven = evens.copy();
+        onlyEven.subtract(threes);
+
+        for (int i = 0; i < 300; i++) {
+            assertEquals(i % 2 == 0 || i % 3 == 0, union.containsIndex(i));
+            assertEquals(i % 6 == 0, both.containsIndex(i));
+            assertEquals(i % 2 == 0 && i % 3 != 0, onlyEven.containsIndex(i));
+        }
+        assertEquals(200, union.size());
+        assertEquals(50, both.size());
+        assertEquals(100, onlyEven.size());
+        assertEquals(150, evens.size());
+
+        try {
+            evens.union(new IndexedBitSet<>(makeUniverse(300)));
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testRandomOperationsMatchHashSet() {
+        Random rand = new Random(17);
+        IndexedBitSet<Integer> set = new IndexedBitSet<>(makeUniverse(50));
+        ISet<Integer> expected = new ChainedHashSet<>();
+        for (int step = 0; step < 20000; step++) {
+            int item = rand.nextInt(1000);
+            if (rand.nextBoolean()) {
+                set.add(item);
+                expected.add(item);
+            } else if (expected.contains(item)) {
+                set.remove(item);
+                expected.remove(item);
+            }
+            assertEquals(expected.contains(item), set.contains(item));
+        }
+        assertEquals(expected.size(), set.size());
+        int count = 0;
+        for (int item : set) {
+            assertTrue(expected.contains(item));
+            count++;
+        }
+        assertEquals(expected.size(), count);
+    }
+}
@@ -0,0 +1,110 @@
+package datastructures;
+
+import datastructures.concrete.IntDisjointSet;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestIntDisjointSet extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testSingletons() {
+        IntDisjointSet forest = new IntDisjointSet(5);
+        assertEquals(5, forest.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, forest.findSet(i));
+            assertEquals(1, forest.setSize(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testUnion() {
+        IntDisjointSet forest = new IntDisjointSet(5);
+        assertTrue(forest.union(0, 1));
+        assertTrue(forest.union(2, 3));
+        assertFalse(forest.union(1, 0));
+        assertTrue(forest.connected(0, 1));
+        assertFalse(forest.connected(1, 2));
+
+        assertTrue(forest.union(3, 0));
+        assertEquals(4, forest.setSize(2));
+        int root = forest.findSet(0);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(root, forest.findSet(i));
+        }
+        assertEquals(4, forest.findSet(4));
+    }
+
+    @Test(timeout=SECOND)
+    public void testSmallerSetJoinsLarger() {
+        IntDisjointSet forest = new IntDisjointSet(4);
+        forest.union(0, 1);
+        forest.union(0, 2);
+        int bigRoot = forest.findSet(0);
+        forest.union(3, 0);
+        assertEquals(bigRoot, forest.findSet(3));
+    }
+
+    @Test(timeout=SECOND)
+    public void testMakeSetsGrows() {
+        IntDisjointSet forest = new IntDisjointSet();
+        assertEquals(0, forest.makeSets(3));
+        forest.union(0, 2);
+        assertEquals(3, forest.makeSets(20));
+        assertEquals(23, forest.size());
+        assertTrue(forest.connected(0, 2));
+        assertEquals(22, forest.findSet(22));
+    }
+
+    @Test(timeout=SECOND)
+    public void testInvalidIds() {
+        IntDisjointSet forest = new IntDisjointSet(3);
+        int[][] badPairs = {{-1, 0}, {0, 3}, {3, 3}};
+        for (int[] pair : badPairs) {
+            try {
+                forest.union(pair[0], pair[1]);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+        try {
+            new IntDisjointSet(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testMatchesNaiveLabelling() {
+        int count = 2000;
+        Random rand = new Random(3);
+        IntDisjointSet forest = new IntDisjointSet(count);
+        int[] labels = new int[count];
+        for (int i = 0; i < count; i++) {
+            labels[i] = i;
+        }
+        for (int step = 0; step < 1500; step++) {
+            int a = rand.nextInt(count);
+            int b = rand.nextInt(count);
+            boolean merged = labels[a] != labels[b];
+            assertEquals(merged, forest.union(a, b));
+            int oldLabel = labels[b];
+            for (int i = 0; i < count; i++) {
+                if (labels[i] == oldLabel) {
+                    labels[i] = labels[a];
+                }
+            }
+        }
+        for (int step = 0; step < 5000; step++) {
+            int a = rand.nextInt(count);
+            int b = rand.nextInt(count);
+            assertEquals(labels[a] == labels[b], forest.connected(a, b));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package datastructures;
+
+import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.PersistentHashSet;
+import datastructures.interfaces.ISet;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestPersistentHashSet extends BaseTest {
+    private static PersistentHashSet<Integer> range(int start, int end) {
+        PersistentHashSet<Integer> set = new PersistentHashSet<>();
+        for (int i = start; i < end; i++) {
+            set.add(i);
+        }
+        return set;
+    }
+
+    @Test(timeout=SECOND)
+    @SuppressWarnings("unchecked")
+    public void testUndoHistory() {
+        PersistentHashSet<Integer> base = range(0, 100);
+        PersistentHashSet<Integer>[] history = new PersistentHashSet[11];
+        history[0] = base;
+        for (int i = 1; i < history.length; i++) {
+            history[i] = history[i - 1].without(i);
+        }
+        for (int i = 0; i < history.length; i++) {
+            assertEquals(100 - i, history[i].size());
+            for (int j = 1; j < history.length; j++) {
+                assertEquals(j > i, history[i].contains(j));
+            }
+        }
+        assertTrue(history[3].with(2).with(3).contains(2));
+        assertFalse(history[3].contains(2));
+
+        try {
+            history[5].without(5);
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testDifferenceOfDerivedVersions() {
+        PersistentHashSet<Integer> base = range(0, 3000);
+        PersistentHashSet<Integer> carved = PersistentHashSet.copyOf(base);
+        carved.removeAll(range(1000, 2500));
+        assertEquals(3000, base.size());
+        assertEquals(1500, carved.size());
+
+        ISet<Integer> removed = ISet.difference(base, carved, new PersistentHashSet<>());
+        assertEquals(1500, removed.size());
+        for (int i = 0; i < 3000; i++) {
+            assertEquals(i >= 1000 && i < 2500, removed.contains(i));
+        }
+
+        // Mixed set types fall back to the generic difference.
+        ISet<Integer> other = new ChainedHashSet<>();
+        other.add(1);
+        other.add(-1);
+        ISet<Integer> rest = ISet.difference(other, carved, new PersistentHashSet<>());
+        assertEquals(1, rest.size());
+        assertTrue(rest.contains(-1));
+        assertEquals(0, ISet.difference(carved, base, new PersistentHashSet<>()).size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullItem() {
+        PersistentHashSet<String> set = new PersistentHashSet<>();
+        set.add(null);
+        set.add("a");
+        PersistentHashSet<String> without = set.without(null);
+        assertTrue(set.contains(null));
+        assertFalse(without.contains(null));
+        assertEquals(1, without.size());
+        try {
+            PersistentHashSet.copyOf(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
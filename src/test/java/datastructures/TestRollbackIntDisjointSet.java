@@ -0,0 +1,115 @@
+package datastructures;
+
+import datastructures.concrete.IntDisjointSet;
+import datastructures.concrete.RollbackIntDisjointSet;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestRollbackIntDisjointSet extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testRollbackUndoesUnions() {
+        RollbackIntDisjointSet forest = new RollbackIntDisjointSet(6);
+        forest.union(0, 1);
+        forest.checkpoint();
+        assertTrue(forest.union(1, 2));
+        assertTrue(forest.union(3, 4));
+        assertTrue(forest.connected(0, 2));
+        forest.rollback();
+
+        assertTrue(forest.connected(0, 1));
+        assertFalse(forest.connected(1, 2));
+        assertFalse(forest.connected(3, 4));
+        assertEquals(2, forest.findSet(2));
+        assertEquals(0, forest.numCheckpoints());
+    }
+
+    @Test(timeout=SECOND)
+    public void testNestedCheckpoints() {
+        RollbackIntDisjointSet forest = new RollbackIntDisjointSet(4);
+        forest.checkpoint();
+        forest.union(0, 1);
+        forest.checkpoint();
+        forest.union(2, 3);
+        forest.union(1, 2);
+        assertTrue(forest.connected(0, 3));
+
+        forest.rollback();
+        assertTrue(forest.connected(0, 1));
+        assertFalse(forest.connected(1, 2));
+        assertFalse(forest.connected(2, 3));
+
+        forest.rollback();
+        assertFalse(forest.connected(0, 1));
+    }
+
+    @Test(timeout=SECOND)
+    public void testWouldCreateLoop() {
+        // Rooms 0-1-2 in a row, connected by open walls; 0-2 would close a loop.
+        RollbackIntDisjointSet forest = new RollbackIntDisjointSet(4);
+        forest.union(0, 1);
+        forest.union(1, 2);
+        assertTrue(forest.connected(0, 2));
+        assertFalse(forest.connected(2, 3));
+    }
+
+    @Test(timeout=SECOND)
+    public void testErrors() {
+        RollbackIntDisjointSet forest = new RollbackIntDisjointSet(2);
+        try {
+            forest.rollback();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // All ok -- expected result
+        }
+        try {
+            forest.union(0, 2);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testRandomRollbacksMatchRebuild() {
+        int count = 500;
+        Random rand = new Random(5);
+        RollbackIntDisjointSet forest = new RollbackIntDisjointSet(count);
+        // Unions currently applied, oldest first; each checkpoint remembers a length.
+        int[] applied = new int[4000];
+        int numApplied = 0;
+        int[] marks = new int[200];
+        int numMarks = 0;
+
+        for (int step = 0; step < 3000; step++) {
+            int action = rand.nextInt(10);
+            if (action == 0 && numMarks < marks.length) {
+                forest.checkpoint();
+                marks[numMarks++] = numApplied;
+            } else if (action == 1 && numMarks > 0) {
+                forest.rollback();
+                numApplied = marks[--numMarks];
+            } else {
+                int a = rand.nextInt(count);
+                int b = rand.nextInt(count);
+                forest.union(a, b);
+                applied[numApplied++] = a * count + b;
+            }
+        }
+
+        IntDisjointSet expected = new IntDisjointSet(count);
+        for (int i = 0; i < numApplied; i++) {
+            expected.union(applied[i] / count, applied[i] % count);
+        }
+        for (int i = 0; i < count; i++) {
+            for (int j = i + 1; j < count; j += 7) {
+                assertEquals(expected.connected(i, j), forest.connected(i, j));
+            }
+        }
+    }
+}
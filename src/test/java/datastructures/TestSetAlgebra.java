@@ -0,0 +1,161 @@
+package datastructures;
+
+import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.IndexedBitSet;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.ISet;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestSetAlgebra extends BaseTest {
+    private static ISet<Integer> range(ISet<Integer> set, int start, int stop) {
+        for (int i = start; i < stop; i++) {
+            set.add(i);
+        }
+        return set;
+    }
+
+    private static void assertRange(ISet<Integer> set, int start, int stop) {
+        assertEquals(stop - start, set.size());
+        for (int i = start; i < stop; i++) {
+            assertTrue(set.contains(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddAll() {
+        ISet<Integer> set = range(new ChainedHashSet<>(), 0, 50);
+        set.addAll(range(new ChainedHashSet<>(), 25, 100));
+        assertRange(set, 0, 100);
+        set.addAll(set);
+        assertRange(set, 0, 100);
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddAllStillShrinksAfterRemovals() {
+        ISet<Integer> set = new ChainedHashSet<>();
+        set.addAll(range(new ChainedHashSet<>(), 0, 10000));
+        assertRange(set, 0, 10000);
+        set.removeAll(range(new ChainedHashSet<>(), 0, 10000));
+        assertTrue(set.isEmpty());
+
+        ChainedHashDictionary<?, ?> map = getField(set, "map", ChainedHashDictionary.class);
+        assertEquals(8, getField(map, "chains", IDictionary[].class).length);
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveAllFromEitherSide() {
+        // 'other' smaller than this set.
+        ISet<Integer> set = range(new ChainedHashSet<>(), 0, 100);
+        set.removeAll(range(new ChainedHashSet<>(), 50, 60));
+        assertEquals(90, set.size());
+        assertFalse(set.contains(55));
+
+        // 'other' larger than this set.
+        set = range(new ChainedHashSet<>(), 0, 10);
+        set.removeAll(range(new ChainedHashSet<>(), 5, 1000));
+        assertRange(set, 0, 5);
+
+        set.removeAll(set);
+        assertTrue(set.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testRetainAll() {
+        ISet<Integer> set = range(new ChainedHashSet<>(), 0, 100);
+        set.retainAll(range(new ChainedHashSet<>(), 90, 200));
+        assertRange(set, 90, 100);
+        set.retainAll(set);
+        assertRange(set, 90, 100);
+        set.retainAll(new ChainedHashSet<>());
+        assertTrue(set.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testStaticDifferenceAndUnion() {
+        ISet<Integer> a = range(new ChainedHashSet<>(), 0, 100);
+        ISet<Integer> b = range(new ChainedHashSet<>(), 50, 150);
+
+        assertRange(ISet.difference(a, b, new ChainedHashSet<>(a.size())), 0, 50);
+        assertRange(ISet.union(a, b, new ChainedHashSet<>()), 0, 150);
+        assertRange(ISet.difference(b, a, new ChainedHashSet<>()), 100, 150);
+        // The inputs are left alone unless used as the output.
+        assertRange(a, 0, 100);
+        assertRange(b, 50, 150);
+
+        assertTrue(ISet.union(a, b, a) == a);
+        assertRange(a, 0, 150);
+        assertTrue(ISet.difference(a, b, a) == a);
+        assertRange(a, 0, 50);
+
+        try {
+            ISet.difference(a, b, b);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            a.addAll(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testIndexedBitSetMatchesGenericPath() {
+        Random rand = new Random(3);
+        IndexedBitSet.Universe<Integer> universe = new IndexedBitSet.Universe<>();
+        for (int i = 0; i < 500; i++) {
+            universe.register(i);
+        }
+        for (int round = 0; round < 20; round++) {
+            IndexedBitSet<Integer> bitsA = new IndexedBitSet<>(universe);
+            IndexedBitSet<Integer> bitsB = new IndexedBitSet<>(universe);
+            ISet<Integer> hashA = new ChainedHashSet<>();
+            ISet<Integer> hashB = new ChainedHashSet<>();
+            for (int i = 0; i < 500; i++) {
+                if (rand.nextInt(3) == 0) {
+                    bitsA.add(i);
+                    hashA.add(i);
+                }
+                if (rand.nextInt(3) == 0) {
+                    bitsB.add(i);
+                    hashB.add(i);
+                }
+            }
+
+            ISet<Integer> bitsOut = ISet.difference(bitsA, bitsB, new IndexedBitSet<>(universe));
+            ISet<Integer> hashOut = ISet.difference(hashA, hashB, new ChainedHashSet<>());
+            assertSameItems(hashOut, bitsOut);
+
+            IndexedBitSet<Integer> retained = bitsA.copy();
+            retained.retainAll(bitsB);
+            ISet<Integer> expected = new ChainedHashSet<>();
+            expected.addAll(hashA);
+            expected.retainAll(hashB);
+            assertSameItems(expected, retained);
+
+            // Mixed pairs fall back to the generic code.
+            IndexedBitSet<Integer> mixed = bitsA.copy();
+            mixed.removeAll(hashB);
+            assertSameItems(hashOut, mixed);
+            mixed.addAll(hashB);
+            assertSameItems(ISet.union(hashA, hashB, new ChainedHashSet<>()), mixed);
+        }
+    }
+
+    private static void assertSameItems(ISet<Integer> expected, ISet<Integer> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int item : expected) {
+            assertTrue(actual.contains(item));
+        }
+    }
+}
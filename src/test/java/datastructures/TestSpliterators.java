@@ -0,0 +1,148 @@
+package datastructures;
+
+import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.DynamicArrayList;
+import datastructures.concrete.KVPair;
+import datastructures.concrete.PersistentHashSet;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.ImmutableDictionary;
+import datastructures.concrete.dictionaries.PersistentHashDictionary;
+import datastructures.concrete.dictionaries.ProbingHashDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
+import datastructures.interfaces.ISet;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.util.Spliterator;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class TestSpliterators extends BaseTest {
+    private static final int SIZE = 5000;
+    private static final long SUM = (long) SIZE * (SIZE - 1) / 2;
+
+    // Splits the spliterator into three pieces and checks that walking every piece
+    // visits each of 0 .. size - 1 exactly once.
+    private static <T> void assertSplitsCover(Spliterator<T> whole, int size, ToIntFunction<T> value) {
+        assertEquals((long) size, whole.estimateSize());
+        assertTrue(whole.hasCharacteristics(Spliterator.SIZED));
+
+        Spliterator<T> prefix = whole.trySplit();
+        assertNotNull(prefix);
+        Spliterator<T> prefixOfPrefix = prefix.trySplit();
+        assertNotNull(prefixOfPrefix);
+
+        boolean[] seen = new boolean[size];
+        int[] count = {0};
+        for (Spliterator<T> part : new Spliterator[] {whole, prefix, prefixOfPrefix}) {
+            part.forEachRemaining(item -> {
+                int v = value.applyAsInt(item);
+                assertFalse(seen[v]);
+                seen[v] = true;
+                count[0]++;
+            });
+            assertFalse(part.tryAdvance(item -> { }));
+        }
+        assertEquals(size, count[0]);
+    }
+
+    // Splits until no piece splits further, then walks every piece.
+    private static <T> int splitFully(Spliterator<T> part, boolean[] seen, ToIntFunction<T> value) {
+        Spliterator<T> prefix = part.trySplit();
+        if (prefix == null) {
+            part.forEachRemaining(item -> {
+                int v = value.applyAsInt(item);
+                assertFalse(seen[v]);
+                seen[v] = true;
+            });
+            return 1;
+        }
+        return splitFully(prefix, seen, value) + splitFully(part, seen, value);
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testListStreams() {
+        IList<Integer> array = new DynamicArrayList<>();
+        IList<Integer> linked = new DoubleLinkedList<>();
+        for (int i = 0; i < SIZE; i++) {
+            array.add(i);
+            linked.add(i);
+        }
+        assertEquals(SUM, array.parallelStream().mapToLong(i -> i).sum());
+        assertEquals(SUM, linked.parallelStream().mapToLong(i -> i).sum());
+        // Order is kept.
+        assertEquals(array.stream().limit(3).collect(Collectors.toList()),
+                linked.parallelStream().limit(3).collect(Collectors.toList()));
+        assertTrue(array.spliterator().hasCharacteristics(Spliterator.ORDERED | Spliterator.SUBSIZED));
+        assertSplitsCover(array.spliterator(), SIZE, i -> i);
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testDictionaryStreams() {
+        IDictionary<Integer, Integer> chained = new ChainedHashDictionary<>();
+        IDictionary<Integer, Integer> probing = new ProbingHashDictionary<>();
+        IDictionary<Integer, Integer> persistent = new PersistentHashDictionary<>();
+        for (int i = 0; i < SIZE; i++) {
+            chained.put(i, i);
+            probing.put(i, i);
+            persistent.put(i, i);
+        }
+        IDictionary<Integer, Integer> frozen = ImmutableDictionary.copyOf(probing);
+        for (IDictionary<Integer, Integer> dict : new IDictionary[] {chained, probing, frozen, persistent}) {
+            assertEquals(SUM, dict.parallelStream().mapToLong(KVPair::getValue).sum());
+            assertEquals((long) SIZE, dict.stream().count());
+            assertTrue(dict.spliterator().hasCharacteristics(Spliterator.DISTINCT | Spliterator.NONNULL));
+            assertSplitsCover(dict.spliterator(), SIZE, KVPair::getKey);
+        }
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testSplittingMidIncrementalResize() {
+        // The table grows from 4096 to 8192 buckets on the 4096th put, and the
+        // few puts after that only migrate a handful of the old buckets.
+        ChainedHashDictionary<Integer, Integer> dict = new ChainedHashDictionary<>(true);
+        for (int i = 0; i < 4100; i++) {
+            dict.put(i, i);
+        }
+        assertNotNull(getField(dict, "oldChains", IDictionary[].class));
+        assertSplitsCover(dict.spliterator(), 4100, KVPair::getKey);
+        assertEquals(4100L * 4099 / 2, dict.parallelStream().mapToLong(KVPair::getKey).sum());
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testSetStreams() {
+        for (ISet<Integer> set : new ISet[] {new ChainedHashSet<>(), new PersistentHashSet<>()}) {
+            for (int i = 0; i < SIZE; i++) {
+                set.add(i);
+            }
+            assertEquals(SUM, set.parallelStream().mapToLong(i -> i).sum());
+            assertTrue(set.spliterator().hasCharacteristics(Spliterator.DISTINCT));
+            assertFalse(set.spliterator().hasCharacteristics(Spliterator.NONNULL));
+            assertSplitsCover(set.spliterator(), SIZE, i -> i);
+
+            set.add(null);
+            assertEquals(1L, set.parallelStream().filter(item -> item == null).count());
+        }
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testPersistentSplitsDescendIntoSubtrees() {
+        PersistentHashDictionary<Integer, Integer> dict = new PersistentHashDictionary<>();
+        for (int i = 0; i < SIZE; i++) {
+            dict.put(i, i);
+        }
+        boolean[] seen = new boolean[SIZE];
+        // The root has at most 32 children, so more pieces means splits went below it.
+        assertTrue(splitFully(dict.spliterator(), seen, KVPair::getKey) > 32);
+        for (boolean visited : seen) {
+            assertTrue(visited);
+        }
+        assertEquals(0L, new PersistentHashDictionary<Integer, Integer>().stream().count());
+    }
+}
@@ -0,0 +1,165 @@
+package datastructures;
+
+import datastructures.concrete.DynamicArrayList;
+import datastructures.concrete.UnrolledLinkedList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestUnrolledLinkedList extends BaseTest {
+    private void assertSameContents(IList<Integer> expected, IList<Integer> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+        Iterator<Integer> iter = actual.iterator();
+        for (Integer item : expected) {
+            assertTrue(iter.hasNext());
+            assertEquals(item, iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testBasicOperations() {
+        IList<String> list = new UnrolledLinkedList<>(4);
+        for (int i = 0; i < 10; i++) {
+            list.add("" + i);
+        }
+        list.insert(0, "first");
+        list.insert(5, "middle");
+        assertEquals(12, list.size());
+        assertEquals("first", list.get(0));
+        assertEquals("middle", list.get(5));
+        assertEquals("4", list.get(6));
+        assertEquals(6, list.indexOf("4"));
+        assertEquals(-1, list.indexOf("q"));
+        assertTrue(list.contains("9"));
+
+        assertEquals("9", list.remove());
+        assertEquals("middle", list.delete(5));
+        list.set(0, "zero");
+        assertEquals("zero", list.get(0));
+        assertEquals(10, list.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testEmptyAndBadIndices() {
+        IList<Integer> list = new UnrolledLinkedList<>();
+        try {
+            list.remove();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            list.get(0);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+        try {
+            list.insert(1, 5);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+        try {
+            list.iterator().next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+        try {
+            new UnrolledLinkedList<Integer>(1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testFrontInsertsAndDeletesLikeAStack() {
+        IList<Integer> list = new UnrolledLinkedList<>(8);
+        for (int i = 0; i < 1000; i++) {
+            list.insert(0, i);
+        }
+        for (int i = 999; i >= 0; i--) {
+            assertEquals(i, (int) list.delete(0));
+        }
+        assertTrue(list.isEmpty());
+        list.add(1);
+        assertEquals(1, (int) list.get(0));
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testRandomEditsMatchArrayList() {
+        Random rand = new Random(13);
+        IList<Integer> expected = new DynamicArrayList<>();
+        IList<Integer> actual = new UnrolledLinkedList<>(4);
+        for (int step = 0; step < 20000; step++) {
+            int action = rand.nextInt(5);
+            int size = expected.size();
+            if (action <= 1 || size == 0) {
+                int index = rand.nextInt(size + 1);
+                expected.insert(index, step);
+                actual.insert(index, step);
+            } else if (action == 2) {
+                int index = rand.nextInt(size);
+                assertEquals(expected.delete(index), actual.delete(index));
+            } else if (action == 3) {
+                int index = rand.nextInt(size);
+                expected.set(index, -step);
+                actual.set(index, -step);
+            } else {
+                int index = rand.nextInt(size);
+                assertEquals(expected.get(index), actual.get(index));
+            }
+        }
+        assertSameContents(expected, actual);
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testLocalEditsAroundMovingPosition() {
+        // Stays near one position, so most lookups start from the cursor, while
+        // appends and removals at the back change the list around it.
+        Random rand = new Random(15);
+        IList<Integer> expected = new DynamicArrayList<>();
+        IList<Integer> actual = new UnrolledLinkedList<>(8);
+        for (int i = 0; i < 500; i++) {
+            expected.add(i);
+            actual.add(i);
+        }
+        int position = 250;
+        for (int step = 0; step < 20000; step++) {
+            position = Math.max(0, Math.min(expected.size() - 1, position + rand.nextInt(7) - 3));
+            int action = rand.nextInt(6);
+            if (action == 0) {
+                expected.insert(position, step);
+                actual.insert(position, step);
+            } else if (action == 1 && expected.size() > 1) {
+                assertEquals(expected.delete(position), actual.delete(position));
+            } else if (action == 2) {
+                expected.set(position, -step);
+                actual.set(position, -step);
+            } else if (action == 3) {
+                expected.add(step);
+                actual.add(step);
+            } else if (action == 4 && expected.size() > 1) {
+                assertEquals(expected.remove(), actual.remove());
+            } else {
+                assertEquals(expected.get(position), actual.get(position));
+            }
+        }
+        assertSameContents(expected, actual);
+    }
+}
@@ -159,6 +159,29 @@ public class TestChainedHashDictionary extends TestDictionary {
         }
     }
 
+    @Test(timeout=SECOND)
+    public void testPresizedTableDoesNotShrinkBelowRequestedSize() {
+        ChainedHashDictionary<Integer, Integer> dict = new ChainedHashDictionary<>(1000);
+        int presized = getField(dict, "chains", IDictionary[].class).length;
+        dict.put(1, 1);
+        dict.put(2, 2);
+        dict.remove(1);
+        dict.remove(2);
+        assertEquals(presized, getField(dict, "chains", IDictionary[].class).length);
+
+        // ensureCapacity raises the floor too, but growing past it can still be undone.
+        dict.ensureCapacity(5000);
+        int raised = getField(dict, "chains", IDictionary[].class).length;
+        assertTrue(raised > presized);
+        for (int i = 0; i < 4 * raised; i++) {
+            dict.put(i, i);
+        }
+        for (int i = 0; i < 4 * raised; i++) {
+            dict.remove(i);
+        }
+        assertEquals(raised, getField(dict, "chains", IDictionary[].class).length);
+    }
+
     @Test(timeout=SECOND)
     public void testPrivateFieldExample() {
         IDictionary<String, String> map = this.makeBasicDictionary();
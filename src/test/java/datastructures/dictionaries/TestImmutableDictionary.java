@@ -0,0 +1,103 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.ImmutableDictionary;
+import datastructures.concrete.dictionaries.ProbingHashDictionary;
+import datastructures.interfaces.IDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestImmutableDictionary extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testCopiesEveryPair() {
+        IDictionary<String, Integer> source = new ProbingHashDictionary<>();
+        for (int i = 0; i < 500; i++) {
+            source.put("key" + i, i);
+        }
+        IDictionary<String, Integer> frozen = ImmutableDictionary.copyOf(source);
+        assertEquals(500, frozen.size());
+        for (int i = 0; i < 500; i++) {
+            assertTrue(frozen.containsKey("key" + i));
+            assertEquals(i, (int) frozen.get("key" + i));
+        }
+        assertFalse(frozen.containsKey("key500"));
+        assertEquals(-1, (int) frozen.getOrDefault("missing", -1));
+
+        int count = 0;
+        for (KVPair<String, Integer> pair : frozen) {
+            assertEquals("key" + pair.getValue(), pair.getKey());
+            count++;
+        }
+        assertEquals(500, count);
+    }
+
+    @Test(timeout=SECOND)
+    public void testCollidingHashesAndNullKey() {
+        IDictionary<Wrapper<String>, String> source = new ProbingHashDictionary<>();
+        for (int i = 0; i < 50; i++) {
+            source.put(new Wrapper<>("" + i, i % 2), "v" + i);
+        }
+        source.put(null, "nullValue");
+        IDictionary<Wrapper<String>, String> frozen = ImmutableDictionary.copyOf(source);
+        for (int i = 0; i < 50; i++) {
+            assertEquals("v" + i, frozen.get(new Wrapper<>("" + i, i % 2)));
+        }
+        assertFalse(frozen.containsKey(new Wrapper<>("0", 1)));
+        assertEquals("nullValue", frozen.get(null));
+    }
+
+    @Test(timeout=SECOND)
+    public void testEmptyDictionary() {
+        IDictionary<String, String> frozen = ImmutableDictionary.copyOf(new ProbingHashDictionary<>());
+        assertTrue(frozen.isEmpty());
+        assertFalse(frozen.containsKey("a"));
+        assertNull(frozen.getOrDefault(null, null));
+        Iterator<KVPair<String, String>> iter = frozen.iterator();
+        assertFalse(iter.hasNext());
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testCannotBeModified() {
+        IDictionary<String, String> source = new ProbingHashDictionary<>();
+        source.put("a", "b");
+        ImmutableDictionary<String, String> frozen = ImmutableDictionary.copyOf(source);
+        assertTrue(frozen == ImmutableDictionary.copyOf(frozen));
+        try {
+            frozen.put("c", "d");
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException ex) {
+            // All ok -- expected result
+        }
+        try {
+            frozen.remove("a");
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException ex) {
+            // All ok -- expected result
+        }
+        try {
+            frozen.get("c");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+
+        // Later changes to the source do not show through.
+        source.put("c", "d");
+        assertFalse(frozen.containsKey("c"));
+    }
+}
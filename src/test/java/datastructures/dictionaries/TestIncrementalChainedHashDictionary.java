@@ -0,0 +1,67 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Re-runs every ChainedHashDictionary test with incremental resizing turned on.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestIncrementalChainedHashDictionary extends TestChainedHashDictionary {
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new ChainedHashDictionary<>(true);
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratorSeesBothTablesMidResize() {
+        IDictionary<Integer, Integer> map = this.newDictionary();
+        // 8 buckets -> a resize starts on the 8th put, and only a few buckets
+        // are migrated per operation afterwards.
+        for (int i = 0; i < 9; i++) {
+            map.put(i, i * 10);
+        }
+
+        boolean[] seen = new boolean[9];
+        for (KVPair<Integer, Integer> pair : map) {
+            assertFalse(seen[pair.getKey()]);
+            assertEquals(pair.getKey() * 10, pair.getValue());
+            seen[pair.getKey()] = true;
+        }
+        for (boolean found : seen) {
+            assertTrue(found);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testShrinksAfterHeavyRemoval() {
+        IDictionary<Integer, Integer> map = this.newDictionary();
+        for (int i = 0; i < 10000; i++) {
+            map.put(i, i);
+        }
+        int grownLength = getField(map, "chains", IDictionary[].class).length;
+
+        for (int i = 0; i < 9990; i++) {
+            map.remove(i);
+        }
+        // Touch the map a few more times so any in-flight migration completes.
+        for (int i = 0; i < 100; i++) {
+            assertFalse(map.containsKey(-1));
+            map.put(-1, -1);
+            map.remove(-1);
+        }
+
+        int shrunkLength = getField(map, "chains", IDictionary[].class).length;
+        assertTrue(shrunkLength < grownLength / 100);
+        assertEquals(10, map.size());
+        for (int i = 9990; i < 10000; i++) {
+            assertEquals(i, map.get(i));
+        }
+    }
+}
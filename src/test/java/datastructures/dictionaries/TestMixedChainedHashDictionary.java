@@ -0,0 +1,93 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.StructureStats;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.HashMixer;
+import datastructures.interfaces.IDictionary;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Re-runs every ChainedHashDictionary test with MurmurHash3 mixing, and checks the
+ * chain-length histogram and the stats counters.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestMixedChainedHashDictionary extends TestChainedHashDictionary {
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new ChainedHashDictionary<>(false, HashMixer.MURMUR3);
+    }
+
+    // Returns the number of pairs in the longest chain.
+    private static int longestChain(int[] histogram) {
+        return histogram.length - 1;
+    }
+
+    @Test(timeout=SECOND)
+    public void testHistogramCountsEveryBucketAndPair() {
+        ChainedHashDictionary<Integer, Integer> map = new ChainedHashDictionary<>(true, HashMixer.FIBONACCI);
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+        int[] histogram = map.chainLengthHistogram();
+        int pairs = 0;
+        for (int length = 0; length < histogram.length; length++) {
+            pairs += length * histogram[length];
+        }
+        assertEquals(1000, pairs);
+        assertTrue(histogram[histogram.length - 1] > 0);
+    }
+
+    @Test(timeout=SECOND)
+    public void testMixingSpreadsClusteredHashCodes() {
+        ChainedHashDictionary<Wrapper<Integer>, Integer> plain = new ChainedHashDictionary<>();
+        ChainedHashDictionary<Wrapper<Integer>, Integer> mixed = new ChainedHashDictionary<>(false, HashMixer.MURMUR3);
+        // Hash codes that are all multiples of 4096 share their low bits, so
+        // without mixing they all land in bucket 0 of tables up to 4096 buckets.
+        for (int i = 0; i < 500; i++) {
+            plain.put(new Wrapper<>(i, i << 12), i);
+            mixed.put(new Wrapper<>(i, i << 12), i);
+        }
+        assertEquals(500, longestChain(plain.chainLengthHistogram()));
+        assertTrue(longestChain(mixed.chainLengthHistogram()) < 10);
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i, mixed.get(new Wrapper<>(i, i << 12)));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testStatsOnlyWhenEnabled() {
+        ChainedHashDictionary<Integer, Integer> map = new ChainedHashDictionary<>();
+        if (!StructureStats.ENABLED) {
+            assertEquals(null, map.getStats());
+            return;
+        }
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+        StructureStats stats = map.getStats();
+        assertEquals(100L, stats.getLookups());
+        assertEquals(4, stats.getResizes());
+
+        // 100 distinct small ints in 128 buckets: every lookup sees exactly one pair.
+        stats.reset();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(map.containsKey(i));
+        }
+        assertEquals(100L, stats.getLookups());
+        assertEquals(1.0, stats.getAverageProbes(), 1e-9);
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullMixer() {
+        try {
+            new ChainedHashDictionary<String, String>(false, null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.PersistentHashDictionary;
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPersistentHashDictionary extends TestDictionary {
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new PersistentHashDictionary<>();
+    }
+
+    @Test(timeout=SECOND)
+    public void testVersionsAreIndependent() {
+        PersistentHashDictionary<Integer, String> base = new PersistentHashDictionary<>();
+        for (int i = 0; i < 1000; i++) {
+            base.put(i, "v" + i);
+        }
+        PersistentHashDictionary<Integer, String> changed = base.with(5, "five").without(6).with(2000, "new");
+        PersistentHashDictionary<Integer, String> copy = base.copy();
+        copy.remove(7);
+
+        assertEquals(1000, base.size());
+        assertEquals("v5", base.get(5));
+        assertTrue(base.containsKey(6));
+        assertTrue(base.containsKey(7));
+        assertFalse(base.containsKey(2000));
+
+        assertEquals(1000, changed.size());
+        assertEquals("five", changed.get(5));
+        assertFalse(changed.containsKey(6));
+        assertEquals("new", changed.get(2000));
+
+        assertEquals(999, copy.size());
+        assertFalse(copy.containsKey(7));
+
+        try {
+            base.without(-1);
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testFullHashCollisions() {
+        PersistentHashDictionary<Wrapper<String>, Integer> map = new PersistentHashDictionary<>();
+        for (int i = 0; i < 50; i++) {
+            map.put(new Wrapper<>("a" + i, 7), i);
+            map.put(new Wrapper<>("b" + i, i), i);
+        }
+        PersistentHashDictionary<Wrapper<String>, Integer> before = map.copy();
+        for (int i = 0; i < 50; i += 2) {
+            assertEquals(i, map.remove(new Wrapper<>("a" + i, 7)));
+        }
+        assertEquals(75, map.size());
+        assertEquals(100, before.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i % 2 == 1, map.containsKey(new Wrapper<>("a" + i, 7)));
+            assertTrue(before.containsKey(new Wrapper<>("a" + i, 7)));
+            assertEquals(i, map.get(new Wrapper<>("b" + i, i)));
+        }
+        int count = 0;
+        for (KVPair<Wrapper<String>, Integer> pair : map) {
+            assertTrue(map.containsKey(pair.getKey()));
+            count++;
+        }
+        assertEquals(75, count);
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testRandomEditsAgainstChainedHashDictionary() {
+        Random rand = new Random(25);
+        PersistentHashDictionary<Integer, Integer> map = new PersistentHashDictionary<>();
+        IDictionary<Integer, Integer> expected = new ChainedHashDictionary<>();
+        for (int i = 0; i < 100000; i++) {
+            int key = rand.nextInt(5000);
+            if (rand.nextInt(3) == 0 && expected.containsKey(key)) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                expected.put(key, i);
+                map.put(key, i);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (KVPair<Integer, Integer> pair : expected) {
+            assertEquals(pair.getValue(), map.get(pair.getKey()));
+        }
+        int count = 0;
+        for (KVPair<Integer, Integer> pair : map) {
+            assertEquals(pair.getValue(), expected.get(pair.getKey()));
+            count++;
+        }
+        assertEquals(expected.size(), count);
+    }
+
+    @Test(timeout=SECOND)
+    public void testForEachKeyNotIn() {
+        PersistentHashDictionary<Integer, Integer> base = new PersistentHashDictionary<>();
+        for (int i = 0; i < 5000; i++) {
+            base.put(i, i);
+        }
+        PersistentHashDictionary<Integer, Integer> carved = base.copy();
+        for (int i = 0; i < 5000; i += 3) {
+            carved.remove(i);
+        }
+        carved.put(null, -1);
+
+        IDictionary<Integer, Boolean> missing = new PersistentHashDictionary<>();
+        base.forEachKeyNotIn(carved, key -> missing.put(key, true));
+        assertEquals(1667, missing.size());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i % 3 == 0, missing.containsKey(i));
+        }
+
+        IDictionary<Integer, Boolean> added = new PersistentHashDictionary<>();
+        carved.forEachKeyNotIn(base, key -> added.put(key, true));
+        assertEquals(1, added.size());
+        assertTrue(added.containsKey(null));
+
+        base.forEachKeyNotIn(base.copy(), key -> fail("Shared versions have no differences"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testCopyOf() {
+        IDictionary<String, String> source = this.makeBasicDictionary();
+        PersistentHashDictionary<String, String> copy = PersistentHashDictionary.copyOf(source);
+        source.remove("keyA");
+        assertEquals(3, copy.size());
+        assertEquals("valA", copy.get("keyA"));
+
+        PersistentHashDictionary<String, String> again = PersistentHashDictionary.copyOf(copy);
+        assertTrue(again != copy);
+        again.put("keyD", "valD");
+        assertFalse(copy.containsKey("keyD"));
+
+        try {
+            PersistentHashDictionary.copyOf(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.ProbingHashDictionary;
+import datastructures.interfaces.IDictionary;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestProbingHashDictionary extends TestDictionary {
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new ProbingHashDictionary<>();
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveFromMiddleOfCollisionCluster() {
+        IDictionary<Wrapper<String>, Integer> map = this.newDictionary();
+        for (int i = 0; i < 100; i++) {
+            map.put(new Wrapper<>("" + i, i % 3), i);
+        }
+
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals(i, map.remove(new Wrapper<>("" + i, i % 3)));
+        }
+
+        assertEquals(50, map.size());
+        for (int i = 0; i < 100; i++) {
+            Wrapper<String> key = new Wrapper<>("" + i, i % 3);
+            if (i % 2 == 0) {
+                assertFalse(map.containsKey(key));
+            } else {
+                assertEquals(i, map.get(key));
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullKeyDoesNotLookEmpty() {
+        IDictionary<String, String> map = this.newDictionary();
+        map.put(null, "a");
+        for (int i = 0; i < 100; i++) {
+            map.put("key" + i, "val" + i);
+        }
+
+        assertTrue(map.containsKey(null));
+        assertEquals("a", map.get(null));
+
+        int count = 0;
+        boolean sawNull = false;
+        for (KVPair<String, String> pair : map) {
+            sawNull |= pair.getKey() == null;
+            count++;
+        }
+        assertEquals(101, count);
+        assertTrue(sawNull);
+
+        assertEquals("a", map.remove(null));
+        assertFalse(map.containsKey(null));
+    }
+
+    @Test(timeout=SECOND)
+    public void testPresizedDictionaryBehavesNormally() {
+        IDictionary<Integer, Integer> map = new ProbingHashDictionary<>(1000);
+        for (int i = 0; i < 5000; i++) {
+            map.put(i, -i);
+        }
+        assertEquals(5000, map.size());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(-i, map.get(i));
+        }
+    }
+
+    @Test(timeout=10*SECOND)
+    public void stressTest() {
+        int limit = 1000000;
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+
+        for (int i = 0; i < limit; i++) {
+            dict.put(i, i);
+            assertEquals(i, dict.get(i));
+        }
+
+        for (int i = 0; i < limit; i++) {
+            dict.put(i, -i);
+        }
+
+        for (int i = 0; i < limit; i++) {
+            assertEquals(-i, dict.get(i));
+            dict.remove(i);
+        }
+        assertTrue(dict.isEmpty());
+    }
+}
@@ -4,9 +4,17 @@ import static org.junit.Assert.assertTrue;
 
 import misc.BaseTest;
 import datastructures.concrete.ArrayHeap;
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.interfaces.IList;
 import datastructures.interfaces.IPriorityQueue;
+import misc.exceptions.EmptyContainerException;
 import org.junit.Test;
 
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.Assert.fail;
+
 /**
  * See spec for details on what kinds of tests this class should include.
  */
@@ -22,4 +30,131 @@ public class TestArrayHeapFunctionality extends BaseTest {
         assertEquals(1, heap.size());
         assertTrue(!heap.isEmpty());
     }
+
+    @Test(timeout=SECOND)
+    public void testBulkConstructorOrdersEverything() {
+        IList<Integer> items = new DoubleLinkedList<>();
+        for (int i = 0; i < 500; i++) {
+            items.add((i * 37) % 500);
+        }
+        IPriorityQueue<Integer> heap = new ArrayHeap<>(items);
+        assertEquals(500, heap.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i, heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertAllIntoNonEmptyHeap() {
+        IPriorityQueue<Integer> heap = this.makeInstance();
+        for (int i = 0; i < 100; i += 2) {
+            heap.insert(i);
+        }
+        IList<Integer> small = new DoubleLinkedList<>();
+        small.add(51);
+        small.add(-3);
+        heap.insertAll(small);
+
+        IList<Integer> big = new DoubleLinkedList<>();
+        for (int i = 199; i > 0; i -= 2) {
+            big.add(i);
+        }
+        heap.insertAll(big);
+
+        assertEquals(-3, heap.removeMin());
+        int last = Integer.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            int next = heap.removeMin();
+            assertTrue(last <= next);
+            last = next;
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertAllRejectsNullAndKeepsHeapValid() {
+        IPriorityQueue<String> heap = this.makeInstance();
+        heap.insert("b");
+        IList<String> items = new DoubleLinkedList<>();
+        items.add("a");
+        items.add(null);
+        try {
+            heap.insertAll(items);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(1, heap.size());
+        assertEquals("b", heap.peekMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testReplaceMinAndPushPop() {
+        IPriorityQueue<Integer> heap = this.makeInstance();
+        try {
+            heap.replaceMin(1);
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(5, heap.pushPop(5));
+        assertTrue(heap.isEmpty());
+
+        heap.insert(3);
+        heap.insert(7);
+        heap.insert(5);
+        assertEquals(3, heap.replaceMin(10));
+        assertEquals(3, heap.size());
+        assertEquals(5, heap.peekMin());
+
+        assertEquals(1, heap.pushPop(1));
+        assertEquals(5, heap.pushPop(6));
+        assertEquals(6, heap.removeMin());
+        assertEquals(7, heap.removeMin());
+        assertEquals(10, heap.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testOtherAritiesStayOrdered() {
+        Random rand = new Random(5);
+        for (int arity : new int[] {2, 3, 8, 16}) {
+            IPriorityQueue<Integer> heap = new ArrayHeap<>(arity);
+            for (int i = 0; i < 2000; i++) {
+                heap.insert(rand.nextInt(1000));
+            }
+            int last = Integer.MIN_VALUE;
+            while (!heap.isEmpty()) {
+                int next = heap.removeMin();
+                assertTrue(last <= next);
+                last = next;
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInvalidArityThrows() {
+        try {
+            new ArrayHeap<Integer>(1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testComparatorOverridesNaturalOrder() {
+        IPriorityQueue<Integer> heap = new ArrayHeap<>(2, Comparator.<Integer>reverseOrder());
+        for (int i = 0; i < 50; i++) {
+            heap.insert(i);
+        }
+        assertEquals(49, heap.peekMin());
+        assertEquals(49, heap.pushPop(10));
+        assertEquals(100, heap.pushPop(100));
+        for (int i = 48; i >= 0; i--) {
+            if (i == 10) {
+                assertEquals(10, heap.removeMin());
+            }
+            assertEquals(i, heap.removeMin());
+        }
+    }
 }
@@ -0,0 +1,140 @@
+package datastructures.sorting;
+
+import datastructures.concrete.DoubleIntHeap;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestDoubleIntHeap extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testRemovesInKeyOrder() {
+        DoubleIntHeap heap = new DoubleIntHeap(10);
+        double[] keys = {5.5, 1.0, 9.0, 3.25, 7.0, 0.5, 2.0, 8.0, 4.0, 6.0};
+        for (int i = 0; i < keys.length; i++) {
+            heap.insert(i, keys[i]);
+        }
+        assertEquals(10, heap.size());
+
+        int[] expected = {5, 1, 6, 3, 8, 0, 9, 4, 7, 2};
+        for (int value : expected) {
+            assertTrue(heap.contains(value));
+            assertEquals(keys[value], heap.peekMinKey(), 0.0);
+            assertEquals(value, heap.removeMin());
+            assertFalse(heap.contains(value));
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testDecreaseKey() {
+        DoubleIntHeap heap = new DoubleIntHeap(100);
+        for (int i = 0; i < 100; i++) {
+            heap.insert(i, 100 + i);
+        }
+        heap.decreaseKey(42, 1.0);
+        assertEquals(42, heap.peekMin());
+        heap.decreaseKey(99, 0.5);
+        assertEquals(99, heap.removeMin());
+        assertEquals(42, heap.removeMin());
+        assertEquals(0, heap.removeMin());
+
+        try {
+            heap.decreaseKey(3, 500.0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInvalidOperationsThrow() {
+        DoubleIntHeap heap = new DoubleIntHeap(3);
+        try {
+            heap.removeMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.insert(3, 1.0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        heap.insert(1, 1.0);
+        try {
+            heap.insert(1, 2.0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testRandomOperationsMatchSortedOrder() {
+        Random rand = new Random(7);
+        int n = 100000;
+        DoubleIntHeap heap = new DoubleIntHeap(n);
+        double[] keys = new double[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = rand.nextDouble();
+            heap.insert(i, keys[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            int value = rand.nextInt(n);
+            keys[value] = keys[value] / 2;
+            heap.decreaseKey(value, keys[value]);
+        }
+        double last = -1;
+        while (!heap.isEmpty()) {
+            double key = heap.peekMinKey();
+            int value = heap.removeMin();
+            assertEquals(keys[value], key, 0.0);
+            assertTrue(last <= key);
+            last = key;
+        }
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testSteadyStateDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int n = 100000;
+        DoubleIntHeap heap = new DoubleIntHeap(n);
+        Random rand = new Random(3);
+        double[] keys = new double[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = rand.nextDouble();
+        }
+
+        // Run once to warm up (class loading, JIT), then measure a second identical run.
+        churn(heap, keys);
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        long checksum = churn(heap, keys);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(checksum != 0);
+        // Allow a little slack for the measurement calls themselves, far below one
+        // allocation per operation (2 * n operations).
+        assertTrue("Allocated " + allocated + " bytes", allocated < 1024);
+    }
+
+    private static long churn(DoubleIntHeap heap, double[] keys) {
+        long checksum = 0;
+        for (int i = 0; i < keys.length; i++) {
+            heap.insert(i, keys[i]);
+        }
+        while (!heap.isEmpty()) {
+            checksum += heap.removeMin();
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,117 @@
+package datastructures.sorting;
+
+import datastructures.concrete.IndexedArrayHeap;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestIndexedArrayHeap extends BaseTest {
+    private static class Entry implements Comparable<Entry> {
+        private double cost;
+
+        public Entry(double cost) {
+            this.cost = cost;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Double.compare(this.cost, other.cost);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertAndRemoveInOrder() {
+        IndexedArrayHeap<Integer> heap = new IndexedArrayHeap<>();
+        for (int i = 50; i > 0; i--) {
+            heap.insert(i);
+        }
+        assertEquals(50, heap.size());
+        for (int i = 1; i <= 50; i++) {
+            assertTrue(heap.contains(i));
+            assertEquals(i, heap.removeMin());
+            assertFalse(heap.contains(i));
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testDuplicateInsertThrows() {
+        IndexedArrayHeap<String> heap = new IndexedArrayHeap<>();
+        heap.insert("a");
+        try {
+            heap.insert("a");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(1, heap.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testEmptyHeapThrows() {
+        IndexedArrayHeap<String> heap = new IndexedArrayHeap<>();
+        try {
+            heap.removeMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.decreaseKey("missing");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testDecreaseKeyMovesItemToFront() {
+        IndexedArrayHeap<Entry> heap = new IndexedArrayHeap<>();
+        Entry[] entries = new Entry[100];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = new Entry(i + 10);
+            heap.insert(entries[i]);
+        }
+
+        entries[77].cost = 1;
+        heap.decreaseKey(entries[77]);
+        assertEquals(entries[77], heap.peekMin());
+
+        entries[5].cost = 0;
+        heap.decreaseKey(entries[5]);
+        assertEquals(entries[5], heap.removeMin());
+        assertEquals(entries[77], heap.removeMin());
+        assertEquals(98, heap.size());
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testRandomDecreaseKeysStayOrdered() {
+        Random rand = new Random(12);
+        for (int arity : new int[] {2, 3, 4, 8}) {
+            IndexedArrayHeap<Entry> heap = new IndexedArrayHeap<>(arity);
+            Entry[] entries = new Entry[5000];
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = new Entry(rand.nextDouble() * 1000);
+                heap.insert(entries[i]);
+            }
+            for (int i = 0; i < 20000; i++) {
+                Entry entry = entries[rand.nextInt(entries.length)];
+                entry.cost -= rand.nextDouble() * 10;
+                heap.decreaseKey(entry);
+            }
+
+            double last = Double.NEGATIVE_INFINITY;
+            while (!heap.isEmpty()) {
+                double cost = heap.removeMin().cost;
+                assertTrue(last <= cost);
+                last = cost;
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package datastructures.sorting;
+
+import datastructures.concrete.MultiQueue;
+import datastructures.interfaces.IConcurrentPriorityQueue;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestMultiQueue extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testSingleShardIsExact() {
+        IConcurrentPriorityQueue<Integer> queue = new MultiQueue<>(1);
+        int[] items = {5, 2, 8, 1, 9, 3};
+        for (int item : items) {
+            queue.insert(item);
+        }
+        assertEquals(6, queue.size());
+        int[] expected = {1, 2, 3, 5, 8, 9};
+        for (int item : expected) {
+            assertEquals(item, (int) queue.tryRemoveMin());
+        }
+        assertTrue(queue.isEmpty());
+        assertNull(queue.tryRemoveMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testErrorHandling() {
+        try {
+            new MultiQueue<Integer>(0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            new MultiQueue<Integer>().insert(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testFindsLastItemAmongManyShards() {
+        IConcurrentPriorityQueue<Integer> queue = new MultiQueue<>(64);
+        for (int i = 0; i < 100; i++) {
+            queue.insert(i);
+            assertEquals(i, (int) queue.tryRemoveMin());
+            assertNull(queue.tryRemoveMin());
+        }
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testConcurrentInsertAndRemoveLosesNothing() throws InterruptedException {
+        int numThreads = 8;
+        int perThread = 50000;
+        MultiQueue<Integer> queue = new MultiQueue<>(2 * numThreads);
+        AtomicIntegerArray seen = new AtomicIntegerArray(numThreads * perThread);
+
+        Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            int base = t * perThread;
+            threads[t] = new Thread(() -> {
+                // Interleave inserts with removals so both happen under contention.
+                for (int i = 0; i < perThread; i++) {
+                    queue.insert(base + i);
+                    if (i % 2 == 1) {
+                        Integer item = queue.tryRemoveMin();
+                        if (item != null) {
+                            seen.incrementAndGet(item);
+                        }
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Integer item = queue.tryRemoveMin();
+        while (item != null) {
+            seen.incrementAndGet(item);
+            item = queue.tryRemoveMin();
+        }
+        assertEquals(0, queue.size());
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals(1, seen.get(i));
+        }
+    }
+}
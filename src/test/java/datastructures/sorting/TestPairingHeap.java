@@ -0,0 +1,163 @@
+package datastructures.sorting;
+
+import datastructures.concrete.PairingHeap;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestPairingHeap extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testRemovesInSortedOrder() {
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        int[] items = {5, 3, 9, 1, 3, 7, 0, 12, 4};
+        for (int item : items) {
+            heap.insert(item);
+        }
+        assertEquals(items.length, heap.size());
+
+        int[] sorted = items.clone();
+        Arrays.sort(sorted);
+        for (int expected : sorted) {
+            assertEquals(expected, (int) heap.peekMin());
+            assertEquals(expected, (int) heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testEmptyAndNullErrors() {
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        try {
+            heap.removeMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.peekMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.insert(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testDecreaseKey() {
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        heap.insert(10);
+        heap.insert(20);
+        PairingHeap.Handle<Integer> handle = heap.add(30);
+        heap.insert(40);
+        assertEquals(10, (int) heap.removeMin());
+
+        heap.decreaseKey(handle, 5);
+        assertEquals(5, (int) handle.getItem());
+        assertEquals(5, (int) heap.removeMin());
+        assertEquals(20, (int) heap.removeMin());
+        assertEquals(40, (int) heap.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testDecreaseKeyRejectsIncrease() {
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        PairingHeap.Handle<Integer> handle = heap.add(3);
+        try {
+            heap.decreaseKey(handle, 4);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(3, (int) heap.peekMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testMeld() {
+        PairingHeap<Integer> first = new PairingHeap<>();
+        PairingHeap<Integer> second = new PairingHeap<>();
+        for (int i = 0; i < 10; i++) {
+            first.insert(2 * i);
+        }
+        PairingHeap.Handle<Integer> handle = second.add(101);
+        for (int i = 0; i < 10; i++) {
+            second.insert(2 * i + 1);
+        }
+
+        first.meld(second);
+        assertEquals(21, first.size());
+        assertEquals(0, second.size());
+
+        // Handles from the melded heap keep working.
+        first.decreaseKey(handle, -1);
+        assertEquals(-1, (int) first.removeMin());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, (int) first.removeMin());
+        }
+        assertTrue(first.isEmpty());
+
+        try {
+            first.meld(first);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testRandomDecreaseKeysMatchSortedOrder() {
+        Random rand = new Random(7);
+        int count = 20000;
+        // Distinct items, in random order.
+        int[] items = new int[count];
+        for (int i = 0; i < count; i++) {
+            items[i] = 10000 + 3 * i;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int temp = items[i];
+            items[i] = items[j];
+            items[j] = temp;
+        }
+
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        @SuppressWarnings("unchecked")
+        PairingHeap.Handle<Integer>[] handles = new PairingHeap.Handle[count];
+        for (int i = 0; i < count; i++) {
+            handles[i] = heap.add(items[i]);
+        }
+        // Pull a few items first so the tree is no longer a flat list of roots.
+        int removed = 100;
+        for (int i = 0; i < removed; i++) {
+            assertEquals(10000 + 3 * i, (int) heap.removeMin());
+        }
+        int floor = 10000 + 3 * removed;
+
+        int[] expected = new int[count - removed];
+        int numExpected = 0;
+        for (int i = 0; i < count; i++) {
+            if (items[i] >= floor) {
+                int lowered = Math.max(floor, items[i] - rand.nextInt(5000));
+                heap.decreaseKey(handles[i], lowered);
+                expected[numExpected++] = lowered;
+            }
+        }
+        assertEquals(count - removed, numExpected);
+        assertEquals(numExpected, heap.size());
+        Arrays.sort(expected);
+        for (int item : expected) {
+            assertEquals(item, (int) heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+    }
+}
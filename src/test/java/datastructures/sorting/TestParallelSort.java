@@ -0,0 +1,115 @@
+package datastructures.sorting;
+
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.DynamicArrayList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.Sorter;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestParallelSort extends BaseTest {
+    // Compares by key only, so equal items can still be told apart by 'order'.
+    private static class Item implements Comparable<Item> {
+        private final int key;
+        private final int order;
+
+        public Item(int key, int order) {
+            this.key = key;
+            this.order = order;
+        }
+
+        @Override
+        public int compareTo(Item other) {
+            return Integer.compare(this.key, other.key);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSmallList() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(19 - i);
+        }
+        IList<Integer> sorted = Sorter.parallelSort(list);
+        assertEquals(20, sorted.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, sorted.get(i));
+        }
+        assertEquals(19, list.get(0));
+        assertEquals(0, Sorter.parallelSort(new DoubleLinkedList<Integer>()).size());
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testLargeListIsSortedAndStable() {
+        Random rand = new Random(5);
+        IList<Item> list = new DynamicArrayList<>();
+        // Few distinct keys, so most comparisons are ties.
+        for (int i = 0; i < 300000; i++) {
+            list.add(new Item(rand.nextInt(1000), i));
+        }
+        IList<Item> sorted = Sorter.parallelSort(list);
+        assertEquals(300000, sorted.size());
+        for (int i = 1; i < sorted.size(); i++) {
+            Item previous = sorted.get(i - 1);
+            Item current = sorted.get(i);
+            assertTrue(previous.key < current.key
+                    || (previous.key == current.key && previous.order < current.order));
+        }
+        // The input is left alone.
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i).order);
+        }
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testSortArrayInPlace() {
+        Random rand = new Random(9);
+        Integer[] array = new Integer[100000];
+        long sum = 0;
+        for (int i = 0; i < array.length; i++) {
+            array[i] = rand.nextInt();
+            sum += array[i];
+        }
+        Sorter.sort(array);
+        for (int i = 1; i < array.length; i++) {
+            assertTrue(array[i - 1] <= array[i]);
+        }
+        for (Integer item : array) {
+            sum -= item;
+        }
+        assertEquals(0L, sum);
+
+        // Already sorted and reversed inputs.
+        Sorter.sort(array);
+        for (int i = 0; i < array.length / 2; i++) {
+            Integer temp = array[i];
+            array[i] = array[array.length - 1 - i];
+            array[array.length - 1 - i] = temp;
+        }
+        Sorter.sort(array);
+        for (int i = 1; i < array.length; i++) {
+            assertTrue(array[i - 1] <= array[i]);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullInput() {
+        try {
+            Sorter.parallelSort((IList<Integer>) null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            Sorter.sort((Integer[]) null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
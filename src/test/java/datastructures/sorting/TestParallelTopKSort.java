@@ -0,0 +1,82 @@
+package datastructures.sorting;
+
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.DynamicArrayList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.Sorter;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.fail;
+
+public class TestParallelTopKSort extends BaseTest {
+    private static IList<Integer> randomList(int size, int bound, long seed) {
+        Random rand = new Random(seed);
+        IList<Integer> list = new DynamicArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(rand.nextInt(bound));
+        }
+        return list;
+    }
+
+    private static void assertSameList(IList<Integer> expected, IList<Integer> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testMatchesTopKSort() {
+        // Small k uses per-task heaps; k = 50000 takes the quickselect path.
+        IList<Integer> list = randomList(200000, 1000000, 1);
+        for (int k : new int[] {1, 10, 1000, 50000}) {
+            assertSameList(Sorter.topKSort(k, list), Sorter.parallelTopKSort(k, list));
+        }
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testManyDuplicates() {
+        IList<Integer> list = randomList(100000, 10, 2);
+        for (int k : new int[] {5, 20000, 99999}) {
+            assertSameList(Sorter.topKSort(k, list), Sorter.parallelTopKSort(k, list));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testEdgeCasesAndInputUnchanged() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(19 - i);
+        }
+        assertEquals(0, Sorter.parallelTopKSort(0, list).size());
+        IList<Integer> all = Sorter.parallelTopKSort(100, list);
+        assertEquals(20, all.size());
+        assertEquals(0, all.get(0));
+        IList<Integer> top = Sorter.parallelTopKSort(5, list);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(15 + i, top.get(i));
+        }
+        for (int i = 0; i < 20; i++) {
+            assertEquals(19 - i, list.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testBadArguments() {
+        try {
+            Sorter.parallelTopKSort(-1, new DoubleLinkedList<Integer>());
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            Sorter.parallelTopKSort(3, (IList<Integer>) null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
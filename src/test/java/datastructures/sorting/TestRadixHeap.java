@@ -0,0 +1,88 @@
+package datastructures.sorting;
+
+import datastructures.concrete.RadixHeap;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestRadixHeap extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testRemovesInKeyOrder() {
+        RadixHeap heap = new RadixHeap();
+        long[] keys = {40, 3, 17, 3, 0, 1000, 64, 65};
+        for (int i = 0; i < keys.length; i++) {
+            heap.insert(i, keys[i]);
+        }
+        assertEquals(8, heap.size());
+
+        long last = -1;
+        while (!heap.isEmpty()) {
+            long key = heap.peekMinLongKey();
+            int value = heap.removeMin();
+            assertEquals(keys[value], key);
+            assertTrue(last <= key);
+            last = key;
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRejectsNonMonotoneAndInvalidKeys() {
+        RadixHeap heap = new RadixHeap();
+        heap.insert(0, 10L);
+        heap.insert(1, 20L);
+        assertEquals(0, heap.removeMin());
+
+        for (double bad : new double[] {5.0, -1.0, 10.5, Double.NaN, Double.POSITIVE_INFINITY}) {
+            try {
+                heap.insert(2, bad);
+                fail("Expected IllegalArgumentException for " + bad);
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+        heap.insert(2, 10.0);
+        assertEquals(2, heap.removeMin());
+        assertEquals(1, heap.removeMin());
+
+        try {
+            heap.removeMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testDijkstraLikeWorkload() {
+        // Interleave removals with insertions of keys at or above the current
+        // minimum, the way a shortest-path search uses the queue.
+        Random rand = new Random(11);
+        RadixHeap heap = new RadixHeap();
+        long[] keyOf = new long[1000000];
+        int next = 0;
+        heap.insert(next, 0L);
+        next++;
+
+        long last = 0;
+        int removed = 0;
+        while (!heap.isEmpty()) {
+            long key = heap.peekMinLongKey();
+            int value = heap.removeMin();
+            assertEquals(keyOf[value], key);
+            assertTrue(last <= key);
+            last = key;
+            removed++;
+            for (int i = 0; i < 3 && next < keyOf.length; i++) {
+                keyOf[next] = key + rand.nextInt(100);
+                heap.insertOrDecreaseKey(next, keyOf[next]);
+                next++;
+            }
+        }
+        assertEquals(keyOf.length, removed);
+    }
+}
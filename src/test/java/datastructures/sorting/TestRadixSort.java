@@ -0,0 +1,89 @@
+package datastructures.sorting;
+
+import misc.BaseTest;
+import misc.Sorter;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestRadixSort extends BaseTest {
+    private static void assertSortedBy(int[] order, double[] keys) {
+        for (int i = 1; i < order.length; i++) {
+            int cmp = Double.compare(keys[order[i - 1]], keys[order[i]]);
+            // Ties keep their original order.
+            assertTrue(cmp < 0 || (cmp == 0 && order[i - 1] < order[i]));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSpecialValues() {
+        double[] keys = {3.5, -0.0, Double.NaN, 0.0, Double.NEGATIVE_INFINITY, -2.25,
+                         Double.MIN_VALUE, Double.POSITIVE_INFINITY, -Double.MAX_VALUE, 3.5, -Double.NaN};
+        int[] order = Sorter.radixSortIndices(keys);
+        assertEquals(keys.length, order.length);
+        assertSortedBy(order, keys);
+        assertEquals(4, order[0]);
+        assertEquals(1, order[3]);
+        assertEquals(3, order[4]);
+        assertTrue(Double.isNaN(keys[order[order.length - 1]]));
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testRandomKeysWithTies() {
+        Random rand = new Random(8);
+        double[] keys = new double[200000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = rand.nextInt(3) == 0 ? rand.nextInt(100) - 50 : rand.nextGaussian() * 1e6;
+        }
+        int[] order = Sorter.radixSortIndices(keys);
+        assertSortedBy(order, keys);
+        boolean[] seen = new boolean[keys.length];
+        for (int index : order) {
+            assertTrue(!seen[index]);
+            seen[index] = true;
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSortsGivenIndicesInPlace() {
+        double[] keys = {5, 4, 3, 2, 1, 0};
+        int[] indices = {0, 2, 4};
+        Sorter.radixSort(indices, keys);
+        assertEquals(4, indices[0]);
+        assertEquals(2, indices[1]);
+        assertEquals(0, indices[2]);
+
+        // Keys that agree in every byte need no passes at all.
+        int[] same = {2, 1, 0};
+        Sorter.radixSort(same, new double[] {7, 7, 7});
+        assertEquals(2, same[0]);
+        assertEquals(0, same[2]);
+
+        assertEquals(0, Sorter.radixSortIndices(new double[0]).length);
+    }
+
+    @Test(timeout=SECOND)
+    public void testBadArguments() {
+        try {
+            Sorter.radixSort(null, new double[0]);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            Sorter.radixSortIndices(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            Sorter.radixSort(new int[] {3}, new double[2]);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+    }
+}
@@ -23,4 +23,27 @@ public class TestSorterFunctionality extends BaseTest {
             assertEquals(15 + i, top.get(i));
         }
     }
+
+    @Test(timeout=SECOND)
+    public void testKLargerThanInputSortsEverything() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(19 - i);
+        }
+
+        IList<Integer> sorted = Sorter.topKSort(100, list);
+        assertEquals(20, sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(i, sorted.get(i));
+        }
+        assertEquals(19, list.get(0));
+        assertEquals(20, list.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testZeroK() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        list.add(1);
+        assertEquals(0, Sorter.topKSort(0, list).size());
+    }
 }
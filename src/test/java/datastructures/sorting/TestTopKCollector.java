@@ -0,0 +1,130 @@
+package datastructures.sorting;
+
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.DynamicArrayList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.Sorter;
+import misc.TopKCollector;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestTopKCollector extends BaseTest {
+    private static void assertSameList(IList<Integer> expected, IList<Integer> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    // Produces 0, 1, ..., count - 1 without ever holding them in a list.
+    private static Iterator<Integer> counter(int count) {
+        return new Iterator<Integer>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.next < count;
+            }
+
+            @Override
+            public Integer next() {
+                this.next++;
+                return this.next - 1;
+            }
+        };
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratorInputAndSnapshots() {
+        TopKCollector<Integer> top = new TopKCollector<>(3);
+        assertEquals(0, top.snapshot().size());
+
+        top.offerAll(counter(10));
+        IList<Integer> first = top.snapshot();
+        assertEquals(3, first.size());
+        assertEquals(7, first.get(0));
+        assertEquals(9, first.get(2));
+
+        // Taking a snapshot does not disturb later offers.
+        top.offer(100);
+        top.offer(8);
+        IList<Integer> second = top.snapshot();
+        assertEquals(8, second.get(0));
+        assertEquals(9, second.get(1));
+        assertEquals(100, second.get(2));
+        assertEquals(12L, top.count());
+        assertEquals(3, top.size());
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testMatchesTopKSort() {
+        Random rand = new Random(11);
+        IList<Integer> list = new DynamicArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            list.add(rand.nextInt(5000));
+        }
+        for (int k : new int[] {0, 1, 100, 60000}) {
+            TopKCollector<Integer> top = new TopKCollector<>(k);
+            top.offerAll(list);
+            assertSameList(Sorter.topKSort(k, list), top.snapshot());
+        }
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testStreamCollector() {
+        IList<Integer> expected = new DoubleLinkedList<>();
+        for (int i = 99990; i < 100000; i++) {
+            expected.add(i);
+        }
+        assertSameList(expected, IntStream.range(0, 100000).boxed()
+                .collect(TopKCollector.collector(10)));
+        assertSameList(expected, IntStream.range(0, 100000).boxed().parallel()
+                .collect(TopKCollector.collector(10)));
+    }
+
+    @Test(timeout=SECOND)
+    public void testMerge() {
+        TopKCollector<Integer> a = new TopKCollector<>(4);
+        TopKCollector<Integer> b = new TopKCollector<>(4);
+        a.offerAll(counter(5));
+        for (int i = 20; i > 10; i--) {
+            b.offer(i);
+        }
+        assertTrue(a.merge(b) == a);
+        assertEquals(15L, a.count());
+        assertEquals(0, b.size());
+        IList<Integer> top = a.snapshot();
+        assertEquals(17, top.get(0));
+        assertEquals(20, top.get(3));
+    }
+
+    @Test(timeout=SECOND)
+    public void testBadArguments() {
+        try {
+            new TopKCollector<Integer>(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        TopKCollector<Integer> top = new TopKCollector<>(2);
+        try {
+            top.offer(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            top.merge(top);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}